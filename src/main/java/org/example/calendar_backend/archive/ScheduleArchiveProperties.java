@@ -0,0 +1,23 @@
+package org.example.calendar_backend.archive;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.schedule-archive")
+public class ScheduleArchiveProperties {
+
+    private boolean enabled = true;
+
+    private Duration maxAge = Duration.ofDays(365);         // 종료 후 이 기간이 지난 일정을 보관
+
+    private int batchSize = 500;                            // 한 트랜잭션에서 옮길 최대 일정 수
+
+    private int maxBatchesPerRun = 200;                     // 한 번 실행 시 최대 배치 수
+
+    private Duration batchPause = Duration.ofMillis(50);    // 배치 사이 대기 (잠금/복제 지연 완화)
+}
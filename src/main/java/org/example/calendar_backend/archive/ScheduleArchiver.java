@@ -0,0 +1,98 @@
+package org.example.calendar_backend.archive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.calendar_backend.event.SchedulesArchivedEvent;
+import org.example.calendar_backend.repository.ArchivedScheduleRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 종료된 지 오래된 일정을 schedule 테이블에서 schedule_archive 테이블로 옮기는 배치 작업.
+ * 배치마다 별도 트랜잭션으로 잠금 → 복사 → 삭제하여, 잠금 시간과 트랜잭션 크기를 제한한다.
+ */
+@Slf4j
+@Component
+public class ScheduleArchiver {
+
+    private final ArchivedScheduleRepository archivedScheduleRepository;
+    private final ScheduleArchiveProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transaction;
+    private final ZoneId storageZone;
+
+    public ScheduleArchiver(ArchivedScheduleRepository archivedScheduleRepository,
+                            ScheduleArchiveProperties properties,
+                            ApplicationEventPublisher eventPublisher,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.calendar.storage-zone:UTC}") String storageZone) {
+        this.archivedScheduleRepository = archivedScheduleRepository;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.storageZone = ZoneId.of(storageZone);
+    }
+
+    @Scheduled(fixedDelayString = "${app.schedule-archive.interval:PT1H}",
+            initialDelayString = "${app.schedule-archive.initial-delay:PT5M}")
+    public void archiveExpired() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now(storageZone);
+        LocalDateTime cutoff = now.minus(properties.getMaxAge());
+        long archived = 0;
+        try {
+            for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+                int moved = archiveBatch(cutoff, now);
+                archived += moved;
+                if (moved < properties.getBatchSize()) {
+                    break;
+                }
+                Thread.sleep(properties.getBatchPause().toMillis());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException ex) {
+            log.error("Schedule archiving failed after {} schedules", archived, ex);
+        }
+        if (archived > 0) {
+            log.info("Archived {} schedules ended before {}", archived, cutoff);
+        }
+    }
+
+    /**
+     * 한 배치 이동 (옮긴 일정 수 반환)
+     */
+    int archiveBatch(LocalDateTime cutoff, LocalDateTime archivedAt) {
+        Integer moved = transaction.execute(status -> {
+            List<Object[]> rows = archivedScheduleRepository.lockExpiredBatch(cutoff, properties.getBatchSize());
+            if (rows.isEmpty()) {
+                return 0;
+            }
+            Set<Long> scheduleIds = new HashSet<>();
+            Set<Long> ownerIds = new HashSet<>();
+            for (Object[] row : rows) {
+                scheduleIds.add(((Number) row[0]).longValue());
+                ownerIds.add(((Number) row[1]).longValue());
+            }
+            archivedScheduleRepository.copyFromSchedule(scheduleIds, archivedAt);
+            archivedScheduleRepository.deleteSharesOf(scheduleIds);
+            archivedScheduleRepository.deleteFromSchedule(scheduleIds);
+
+            // 커밋 후 캐시/검색 색인에서 제외
+            eventPublisher.publishEvent(new SchedulesArchivedEvent(ownerIds, scheduleIds));
+            return scheduleIds.size();
+        });
+        return moved == null ? 0 : moved;
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.calendar_backend.audit;
+
+import lombok.RequiredArgsConstructor;
+import org.example.calendar_backend.dto.ScheduleDTO;
+import org.example.calendar_backend.event.FriendshipChangedEvent;
+import org.example.calendar_backend.event.ScheduleChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 커밋된 일정/친구 관계 변경을 감사 기록으로 변환하여 ActivityLogWriter 로 넘김 (쓰기 트랜잭션에는 비용을 더하지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class ActivityAuditListener {
+
+    private final ActivityLogWriter activityLogWriter;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        ScheduleDTO schedule = event.getAfter() != null ? event.getAfter() : event.getBefore();
+        activityLogWriter.submit(new ActivityRecord(LocalDateTime.now(ZoneOffset.UTC), event.getActorId(),
+                "SCHEDULE_" + event.getType(), "SCHEDULE", event.getScheduleId(),
+                schedule == null ? null : schedule.getTitle()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFriendshipChanged(FriendshipChangedEvent event) {
+        String detail = event.getUserEmail() == null ? null : event.getUserEmail() + " -> " + event.getFriendEmail();
+        activityLogWriter.submit(new ActivityRecord(LocalDateTime.now(ZoneOffset.UTC), event.getActorId(),
+                "FRIENDSHIP_" + event.getType(), "FRIENDSHIP", event.getFriendshipId(), detail));
+    }
+}
@@ -0,0 +1,232 @@
+package org.example.calendar_backend.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 감사 기록 write-behind 기록기.
+ * 커밋 후 호출되는 submit 은 잠금 없는 대기열(크기는 원자적 카운터로 제한)에 넣기만 하고,
+ * 백그라운드 스레드가 batchSize 개 또는 flushInterval 마다 모아서 multi-row INSERT 한 번으로 activity_log 에 기록한다.
+ * 대기열이 가득 차면 overflowPolicy 에 따라 호출 스레드에서 직접 기록하거나, 잠시 기다리거나, 버린다.
+ * 종료 시 남은 기록을 모두 비운 뒤 멈춘다.
+ */
+@Slf4j
+@Component
+public class ActivityLogWriter {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO activity_log (occurred_at, actor_id, action, target_type, target_id, detail) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?)";
+    private static final int DETAIL_MAX_LENGTH = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditProperties properties;
+    private final TransactionTemplate transaction;
+    private final Queue<ActivityRecord> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Thread writerThread;
+    private volatile boolean closed;
+
+    private final Counter enqueuedCounter;
+    private final Counter writtenCounter;
+    private final Counter callerRunsCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+    private final Timer flushTimer;
+    private final DistributionSummary batchSizeSummary;
+
+    public ActivityLogWriter(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             AuditProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        // 커밋 후(afterCommit) 호출되어도 원래 트랜잭션의 커넥션에 묶이지 않도록 항상 새 트랜잭션에서 기록
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.enqueuedCounter = Counter.builder("audit.records").tag("result", "enqueued").register(meterRegistry);
+        this.writtenCounter = Counter.builder("audit.records").tag("result", "written").register(meterRegistry);
+        this.callerRunsCounter = Counter.builder("audit.records").tag("result", "caller_runs").register(meterRegistry);
+        this.droppedCounter = Counter.builder("audit.records").tag("result", "dropped").register(meterRegistry);
+        this.failedCounter = Counter.builder("audit.records").tag("result", "failed").register(meterRegistry);
+        this.flushTimer = Timer.builder("audit.flush").register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("audit.flush.batch.size").register(meterRegistry);
+        Gauge.builder("audit.queue.size", queued, AtomicInteger::get).register(meterRegistry);
+
+        this.writerThread = new Thread(this::run, "activity-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * 기록 추가 (대기열에 넣고 바로 반환, 대기열이 가득 차면 overflowPolicy 적용)
+     */
+    public void submit(ActivityRecord record) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (!closed && tryEnqueue(record)) {
+            return;
+        }
+        if (!closed && properties.getOverflowPolicy() == AuditProperties.OverflowPolicy.BLOCK && awaitEnqueue(record)) {
+            return;
+        }
+        // 종료 중에는 백그라운드 스레드가 더 이상 읽지 않으므로 정책이 DROP 이 아니면 직접 기록
+        if (properties.getOverflowPolicy() == AuditProperties.OverflowPolicy.CALLER_RUNS || closed) {
+            callerRunsCounter.increment();
+            write(List.of(record));
+        } else {
+            droppedCounter.increment();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        closed = true;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(properties.getShutdownTimeout().toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (writerThread.isAlive()) {
+            log.warn("Activity log writer did not finish within {}, {} records left unwritten",
+                    properties.getShutdownTimeout(), queued.get());
+            return;
+        }
+        // 종료 표시 직전에 대기열에 들어간 기록
+        List<ActivityRecord> batch = new ArrayList<>();
+        drainTo(batch);
+        while (!batch.isEmpty()) {
+            write(batch);
+            batch.clear();
+            drainTo(batch);
+        }
+    }
+
+    public int queuedCount() {
+        return queued.get();
+    }
+
+    private boolean tryEnqueue(ActivityRecord record) {
+        int size = queued.incrementAndGet();
+        if (size > properties.getQueueCapacity()) {
+            queued.decrementAndGet();
+            return false;
+        }
+        queue.offer(record);
+        enqueuedCounter.increment();
+        if (size == properties.getBatchSize()) {
+            LockSupport.unpark(writerThread);   // 배치가 찼으면 flushInterval 을 기다리지 않음
+        }
+        return true;
+    }
+
+    private boolean awaitEnqueue(ActivityRecord record) {
+        long deadline = System.nanoTime() + properties.getOfferTimeout().toNanos();
+        while (System.nanoTime() - deadline < 0) {
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            if (tryEnqueue(record)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void run() {
+        long flushIntervalNanos = properties.getFlushInterval().toNanos();
+        List<ActivityRecord> batch = new ArrayList<>(properties.getBatchSize());
+        while (true) {
+            if (queued.get() < properties.getBatchSize() && !closed) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+            // 대기열이 비거나 배치보다 작아질 때까지 연속으로 기록
+            do {
+                drainTo(batch);
+                if (!batch.isEmpty()) {
+                    write(batch);
+                    batch.clear();
+                }
+            } while (queued.get() >= properties.getBatchSize());
+
+            if (closed && queued.get() == 0) {
+                return;
+            }
+        }
+    }
+
+    private void drainTo(List<ActivityRecord> batch) {
+        ActivityRecord record;
+        while (batch.size() < properties.getBatchSize() && (record = queue.poll()) != null) {
+            queued.decrementAndGet();
+            batch.add(record);
+        }
+    }
+
+    private void write(List<ActivityRecord> records) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                flushTimer.record(() -> transaction.executeWithoutResult(status -> insert(records)));
+                writtenCounter.increment(records.size());
+                batchSizeSummary.record(records.size());
+                return;
+            } catch (RuntimeException ex) {
+                if (attempt >= properties.getMaxAttempts()) {
+                    failedCounter.increment(records.size());
+                    log.error("Writing {} activity records failed after {} attempts, first: {}",
+                            records.size(), attempt, records.get(0), ex);
+                    return;
+                }
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100L * attempt));
+            }
+        }
+    }
+
+    /**
+     * 한 번의 multi-row INSERT 로 기록
+     */
+    private void insert(List<ActivityRecord> records) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + records.size() * (ROW_PLACEHOLDER.length() + 2))
+                .append(INSERT_PREFIX);
+        Object[] args = new Object[records.size() * 6];
+        int i = 0;
+        for (ActivityRecord record : records) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDER);
+            args[i++] = Timestamp.valueOf(record.occurredAt());
+            args[i++] = record.actorId();
+            args[i++] = record.action();
+            args[i++] = record.targetType();
+            args[i++] = record.targetId();
+            args[i++] = truncate(record.detail());
+        }
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    private static String truncate(String detail) {
+        return detail == null || detail.length() <= DETAIL_MAX_LENGTH ? detail : detail.substring(0, DETAIL_MAX_LENGTH);
+    }
+}
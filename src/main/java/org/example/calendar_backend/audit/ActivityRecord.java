@@ -0,0 +1,17 @@
+package org.example.calendar_backend.audit;
+
+import java.time.LocalDateTime;
+
+/**
+ * activity_log 한 행
+ *
+ * @param occurredAt 변경이 커밋된 시각 (UTC)
+ * @param actorId    변경한 사용자 ID (알 수 없으면 null)
+ * @param action     SCHEDULE_UPDATED, FRIENDSHIP_ACCEPTED 등
+ * @param targetType SCHEDULE / FRIENDSHIP
+ * @param targetId   대상 ID (없으면 null)
+ * @param detail     사람이 읽을 수 있는 짧은 설명 (최대 255자)
+ */
+public record ActivityRecord(LocalDateTime occurredAt, Long actorId, String action, String targetType,
+                             Long targetId, String detail) {
+}
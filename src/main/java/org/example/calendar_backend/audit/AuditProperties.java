@@ -0,0 +1,35 @@
+package org.example.calendar_backend.audit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.audit")
+public class AuditProperties {
+
+    public enum OverflowPolicy {
+        CALLER_RUNS,   // 대기열이 가득 차면 호출한 스레드가 직접 기록 (유실 없음, 쓰기 요청이 느려짐)
+        BLOCK,         // offerTimeout 동안 빈 자리를 기다린 뒤 버림
+        DROP           // 바로 버림 (audit.records{result=dropped} 로 집계)
+    }
+
+    private boolean enabled = true;
+
+    private int queueCapacity = 10_000;                         // 기록 대기열 최대 크기
+
+    private int batchSize = 500;                                // 한 번의 multi-row INSERT 에 담을 최대 행 수
+
+    private Duration flushInterval = Duration.ofMillis(200);    // 배치가 차지 않아도 이 시간마다 기록
+
+    private OverflowPolicy overflowPolicy = OverflowPolicy.CALLER_RUNS;
+
+    private Duration offerTimeout = Duration.ofMillis(50);      // BLOCK 정책에서 기다리는 최대 시간
+
+    private int maxAttempts = 3;                                // 배치 기록 실패 시 최대 시도 횟수
+
+    private Duration shutdownTimeout = Duration.ofSeconds(10);  // 종료 시 남은 기록을 비우는 최대 시간
+}
@@ -0,0 +1,70 @@
+package org.example.calendar_backend.cache;
+
+import org.example.calendar_backend.entity.CacheInvalidation;
+import org.example.calendar_backend.event.ScheduleChangedEvent;
+import org.example.calendar_backend.event.ScheduleSharingChangedEvent;
+import org.example.calendar_backend.event.SchedulesArchivedEvent;
+import org.example.calendar_backend.repository.CacheInvalidationRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * 캐시 무효화 기록 추가.
+ * 변경과 같은 트랜잭션에서(커밋 직전) cache_invalidation 테이블에 기록하므로, 변경이 커밋되면 기록도 반드시 남고 롤백되면 남지 않는다.
+ * 다른 노드는 CacheInvalidationPoller 로 이 기록을 읽어 자기 캐시를 비운다.
+ */
+@Component
+public class CacheInvalidationLog {
+
+    private final CacheInvalidationRepository repository;
+    private final CacheInvalidationProperties properties;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidationLog(CacheInvalidationRepository repository, CacheInvalidationProperties properties) {
+        this.repository = repository;
+        this.properties = properties;
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 현재 트랜잭션에 무효화 기록 추가
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(CacheInvalidation.Kind kind, Long ownerId, String entityKey) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        repository.save(CacheInvalidation.builder()
+                .kind(kind)
+                .ownerId(ownerId)
+                .entityKey(entityKey)
+                .origin(nodeId)
+                .createdAt(LocalDateTime.now(ZoneOffset.UTC))
+                .build());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        append(CacheInvalidation.Kind.SCHEDULE, event.getOwnerId(), String.valueOf(event.getScheduleId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onSchedulesArchived(SchedulesArchivedEvent event) {
+        event.getOwnerIds().forEach(ownerId -> append(CacheInvalidation.Kind.SCHEDULES_ARCHIVED, ownerId, null));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onSharingChanged(ScheduleSharingChangedEvent event) {
+        append(CacheInvalidation.Kind.SCHEDULE_SHARING, event.getOwnerId(), null);
+    }
+}
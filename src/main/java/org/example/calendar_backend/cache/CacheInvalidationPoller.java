@@ -0,0 +1,163 @@
+package org.example.calendar_backend.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.calendar_backend.entity.CacheInvalidation;
+import org.example.calendar_backend.event.CacheInvalidatedEvent;
+import org.example.calendar_backend.repository.CacheInvalidationRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * cache_invalidation 테이블을 id 순으로 읽어 다른 노드의 변경을 CacheInvalidatedEvent 로 로컬 캐시에 전달한다.
+ * auto increment id 는 커밋 순서와 다를 수 있으므로, 건너뛴 id 는 gapTimeout 동안 따로 다시 조회한다.
+ * 오랫동안(retention 이상) 조회하지 못해 기록이 정리되었을 수 있으면 로컬 캐시 전체를 비운다.
+ * 조회는 복제 지연이 없도록 primary 에서 한다.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationPoller {
+
+    private static final int MAX_TRACKED_GAPS = 10_000;
+
+    private final CacheInvalidationRepository repository;
+    private final CacheInvalidationLog invalidationLog;
+    private final CacheInvalidationProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transaction;
+    private final Counter appliedCounter;
+    private final Counter flushCounter;
+
+    private long lastSeenId = -1;                       // -1: 아직 시작 위치를 정하지 않음
+    private final Map<Long, Long> gaps = new HashMap<>(); // 아직 보지 못한 id → 기다림을 포기할 시각 (nanoTime)
+    private long lastPolledAt;
+
+    public CacheInvalidationPoller(CacheInvalidationRepository repository,
+                                   CacheInvalidationLog invalidationLog,
+                                   CacheInvalidationProperties properties,
+                                   ApplicationEventPublisher eventPublisher,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.invalidationLog = invalidationLog;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.appliedCounter = Counter.builder("cache.invalidations.applied").register(meterRegistry);
+        this.flushCounter = Counter.builder("cache.invalidations.flushes").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.invalidation.poll-interval:PT1S}")
+    public synchronized void poll() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long now = System.nanoTime();
+        try {
+            if (lastSeenId < 0) {
+                // 시작 전 변경은 아직 캐시에 없으므로 현재 위치부터 읽음
+                lastSeenId = transaction.execute(status -> repository.findMaxId());
+            } else if (now - lastPolledAt > properties.getRetention().toNanos()) {
+                gaps.clear();
+                lastSeenId = transaction.execute(status -> repository.findMaxId());
+                flushCounter.increment();
+                log.warn("Cache invalidations were not polled for longer than {}, flushing local caches", properties.getRetention());
+                publish(CacheInvalidatedEvent.all());
+            } else {
+                pollGaps(now);
+                pollNew(now);
+            }
+            lastPolledAt = now;
+        } catch (RuntimeException ex) {
+            log.warn("Polling cache invalidations after id {} failed", lastSeenId, ex);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.invalidation.cleanup-interval:PT5M}")
+    public void deleteExpired() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now(ZoneOffset.UTC).minus(properties.getRetention());
+        try {
+            transaction.executeWithoutResult(status -> repository.deleteCreatedBefore(cutoff));
+        } catch (RuntimeException ex) {
+            log.warn("Deleting cache invalidations before {} failed", cutoff, ex);
+        }
+    }
+
+    private void pollNew(long now) {
+        while (true) {
+            long afterId = lastSeenId;
+            List<CacheInvalidation> batch = transaction.execute(status ->
+                    repository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, properties.getBatchSize())));
+            for (CacheInvalidation invalidation : batch) {
+                trackGaps(invalidation.getId(), now);
+                apply(invalidation);
+                lastSeenId = invalidation.getId();
+            }
+            if (batch.size() < properties.getBatchSize()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 이전에 건너뛴 id 중 그 사이 커밋된 기록 반영
+     */
+    private void pollGaps(long now) {
+        gaps.values().removeIf(deadline -> deadline - now < 0);
+        if (gaps.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(gaps.keySet());
+        for (int from = 0; from < ids.size(); from += properties.getBatchSize()) {
+            List<Long> chunk = ids.subList(from, Math.min(from + properties.getBatchSize(), ids.size()));
+            for (CacheInvalidation invalidation : transaction.execute(status -> repository.findByIdInOrderByIdAsc(chunk))) {
+                gaps.remove(invalidation.getId());
+                apply(invalidation);
+            }
+        }
+    }
+
+    private void trackGaps(long id, long now) {
+        long deadline = now + properties.getGapTimeout().toNanos();
+        for (long missing = lastSeenId + 1; missing < id; missing++) {
+            if (gaps.size() >= MAX_TRACKED_GAPS) {
+                log.warn("Too many missing cache invalidation ids, not waiting for ids {} to {}", missing, id - 1);
+                return;
+            }
+            gaps.put(missing, deadline);
+        }
+    }
+
+    private void apply(CacheInvalidation invalidation) {
+        // 자기 노드의 변경은 커밋 시 이벤트로 이미 반영됨
+        if (invalidationLog.nodeId().equals(invalidation.getOrigin())) {
+            return;
+        }
+        publish(new CacheInvalidatedEvent(invalidation.getKind(), invalidation.getOwnerId(), invalidation.getEntityKey()));
+        appliedCounter.increment();
+    }
+
+    private void publish(CacheInvalidatedEvent event) {
+        try {
+            eventPublisher.publishEvent(event);
+        } catch (RuntimeException ex) {
+            // 한 캐시의 실패가 다른 기록 처리를 막지 않도록
+            log.warn("Applying cache invalidation {} {} {} failed", event.getKind(), event.getOwnerId(), event.getEntityKey(), ex);
+        }
+    }
+}
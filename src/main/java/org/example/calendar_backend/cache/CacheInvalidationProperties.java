@@ -0,0 +1,25 @@
+package org.example.calendar_backend.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.cache.invalidation")
+public class CacheInvalidationProperties {
+
+    private boolean enabled = true;
+
+    private Duration pollInterval = Duration.ofSeconds(1);   // 다른 노드의 변경이 반영되기까지의 최대 지연 (조회 시간 제외)
+
+    private int batchSize = 1_000;                          // 한 번에 읽을 최대 기록 수
+
+    private Duration gapTimeout = Duration.ofSeconds(30);   // 비어 있는 id 를 기다리는 시간 (늦게 커밋되는 트랜잭션 / 롤백된 id)
+
+    private Duration retention = Duration.ofHours(1);       // 기록 보관 기간 (이보다 오래 조회하지 못한 노드는 캐시 전체를 비움)
+
+    private Duration cleanupInterval = Duration.ofMinutes(5);
+}
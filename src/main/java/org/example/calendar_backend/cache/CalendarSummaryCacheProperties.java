@@ -0,0 +1,13 @@
+package org.example.calendar_backend.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.cache.calendar-summary")
+public class CalendarSummaryCacheProperties {
+
+    private int maxEntries = 10_000;   // (사용자, 기간) 단위 최대 캐시 수
+}
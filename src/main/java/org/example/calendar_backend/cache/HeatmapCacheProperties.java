@@ -0,0 +1,13 @@
+package org.example.calendar_backend.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.cache.heatmap")
+public class HeatmapCacheProperties {
+
+    private int maxEntries = 2_000;   // (조회자, 대상 사용자 집합, 기간) 단위 최대 캐시 수
+}
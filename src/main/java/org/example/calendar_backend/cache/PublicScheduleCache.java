@@ -0,0 +1,64 @@
+package org.example.calendar_backend.cache;
+
+import org.example.calendar_backend.dto.ScheduleDTO;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 공개 일정 목록 캐시.
+ * 동시에 들어온 같은 사용자의 조회는 SingleFlight 로 한 번만 DB 를 조회하고,
+ * 결과는 짧은 시간 동안 캐시하되 ScheduleVersions 의 버전이 바뀌면 즉시 무효화된다.
+ * 친구 관계 확인(권한 검사)은 호출하는 쪽에서 요청마다 수행해야 한다.
+ */
+@Component
+public class PublicScheduleCache {
+
+    private final ScheduleVersions scheduleVersions;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final SingleFlight<FlightKey, List<ScheduleDTO>> singleFlight = new SingleFlight<>();
+
+    public PublicScheduleCache(ScheduleVersions scheduleVersions, PublicScheduleCacheProperties properties) {
+        this.scheduleVersions = scheduleVersions;
+        this.ttlNanos = properties.getTtl().toNanos();
+        this.maxEntries = properties.getMaxEntries();
+    }
+
+    public List<ScheduleDTO> get(Long ownerId, Supplier<List<ScheduleDTO>> loader) {
+        // 로딩 전에 버전을 읽어 두어야, 로딩 중 발생한 변경이 캐시에 남지 않음
+        long version = scheduleVersions.current(ownerId);
+        Entry entry = entries.get(ownerId);
+        if (entry != null && entry.version == version && System.nanoTime() - entry.loadedAt < ttlNanos) {
+            return entry.schedules;
+        }
+
+        return singleFlight.execute(new FlightKey(ownerId, version), () -> {
+            List<ScheduleDTO> schedules = List.copyOf(loader.get());
+            put(ownerId, new Entry(version, System.nanoTime(), schedules));
+            return schedules;
+        });
+    }
+
+    private void put(Long ownerId, Entry entry) {
+        if (entries.size() >= maxEntries) {
+            long now = System.nanoTime();
+            entries.values().removeIf(e -> now - e.loadedAt >= ttlNanos);
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        // 더 최신 버전이 이미 저장되어 있으면 덮어쓰지 않음
+        entries.merge(ownerId, entry, (old, fresh) -> fresh.version >= old.version ? fresh : old);
+    }
+
+    private record FlightKey(Long ownerId, long version) {
+    }
+
+    private record Entry(long version, long loadedAt, List<ScheduleDTO> schedules) {
+    }
+}
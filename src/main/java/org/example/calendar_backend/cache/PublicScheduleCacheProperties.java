@@ -0,0 +1,17 @@
+package org.example.calendar_backend.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.cache.public-schedules")
+public class PublicScheduleCacheProperties {
+
+    private Duration ttl = Duration.ofSeconds(5); // 결과 캐시 유지 시간
+
+    private int maxEntries = 10_000;              // 캐시할 최대 사용자 수
+}
@@ -0,0 +1,71 @@
+package org.example.calendar_backend.cache;
+
+import org.example.calendar_backend.event.CacheInvalidatedEvent;
+import org.example.calendar_backend.event.ScheduleChangedEvent;
+import org.example.calendar_backend.event.ScheduleSharingChangedEvent;
+import org.example.calendar_backend.event.SchedulesArchivedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 일정 버전 관리.
+ * 일정 변경이 커밋되면 소유자의 버전이 증가하며, 캐시는 저장 당시 버전과 비교하여 무효 여부를 판단한다.
+ * 다른 노드의 변경은 CacheInvalidatedEvent 로 반영되며, 전체 무효화 시에는 모든 사용자에 더해지는 기본 버전을 올린다.
+ */
+@Component
+public class ScheduleVersions {
+
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final AtomicLong baseVersion = new AtomicLong();
+
+    /**
+     * 현재 버전 조회 (변경 이력이 없으면 0)
+     */
+    public long current(Long ownerId) {
+        AtomicLong version = versions.get(ownerId);
+        return baseVersion.get() + (version == null ? 0L : version.get());
+    }
+
+    /**
+     * 버전 증가 (해당 사용자의 캐시 전체 무효화)
+     */
+    public long bump(Long ownerId) {
+        return baseVersion.get() + versions.computeIfAbsent(ownerId, id -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * 모든 사용자의 버전 증가 (캐시 전체 무효화)
+     */
+    public void bumpAll() {
+        baseVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        bump(event.getOwnerId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSchedulesArchived(SchedulesArchivedEvent event) {
+        event.getOwnerIds().forEach(this::bump);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSharingChanged(ScheduleSharingChangedEvent event) {
+        bump(event.getOwnerId());
+    }
+
+    @EventListener
+    public void onRemoteInvalidation(CacheInvalidatedEvent event) {
+        if (event.isAll()) {
+            bumpAll();
+        } else if (event.getOwnerId() != null) {
+            bump(event.getOwnerId());
+        }
+    }
+}
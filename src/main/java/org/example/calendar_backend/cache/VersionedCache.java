@@ -0,0 +1,51 @@
+package org.example.calendar_backend.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 버전 스탬프로 유효성을 판단하는 LRU 캐시.
+ * 저장 당시 스탬프(예: ScheduleVersions 의 버전)와 현재 스탬프가 다르면 다시 로딩한다.
+ */
+public class VersionedCache<K, V> {
+
+    private final Map<K, Entry<V>> entries;
+
+    public VersionedCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 캐시 조회. stamp 는 로딩 전에 계산해 두어야 로딩 중 발생한 변경이 캐시에 남지 않는다.
+     */
+    public V get(K key, Object stamp, Supplier<V> loader) {
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && Objects.equals(entry.stamp(), stamp)) {
+                return entry.value();
+            }
+        }
+
+        V value = loader.get();
+        synchronized (entries) {
+            entries.put(key, new Entry<>(stamp, value));
+        }
+        return value;
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private record Entry<V>(Object stamp, V value) {
+    }
+}
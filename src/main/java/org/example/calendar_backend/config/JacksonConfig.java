@@ -0,0 +1,28 @@
+package org.example.calendar_backend.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.example.calendar_backend.serialization.CompactDtoModule;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.ZoneId;
+
+@Configuration
+public class JacksonConfig {
+
+    // Module 빈은 Spring Boot 의 ObjectMapper(JSON) 와 아래 CBOR ObjectMapper 에 자동 등록됨
+    @Bean
+    public Module compactDtoModule(@Value("${app.calendar.storage-zone:UTC}") String storageZone) {
+        return new CompactDtoModule(ZoneId.of(storageZone));
+    }
+
+    // Accept: application/cbor 요청에 CBOR 로 응답 (기본 CBOR 변환기를 Boot 설정이 적용된 것으로 대체)
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.calendar_backend.config;
+
+import org.example.calendar_backend.reminder.InMemoryReminderSink;
+import org.example.calendar_backend.reminder.LoggingReminderSink;
+import org.example.calendar_backend.reminder.ReminderProperties;
+import org.example.calendar_backend.reminder.ReminderSink;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ReminderConfig {
+
+    // 다른 전달 방식(푸시 등)은 ReminderSink 빈을 등록하면 대체됨
+    @Bean
+    @ConditionalOnMissingBean(ReminderSink.class)
+    public ReminderSink reminderSink(ReminderProperties properties) {
+        return properties.getSink() == ReminderProperties.Sink.MEMORY
+                ? new InMemoryReminderSink()
+                : new LoggingReminderSink();
+    }
+}
@@ -1,8 +1,16 @@
 package org.example.calendar_backend.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.example.calendar_backend.security.BoundedPasswordEncoder;
 import org.example.calendar_backend.security.CustomUserDetailsService;
 import org.example.calendar_backend.security.JwtAuthenticationFilter;
 import org.example.calendar_backend.security.JwtTokenProvider;
+import org.example.calendar_backend.security.PasswordHashingProperties;
+import org.example.calendar_backend.security.TokenRevocationStore;
+import org.example.calendar_backend.throttle.RateLimitFilter;
+import org.example.calendar_backend.throttle.RateLimitProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -11,7 +19,6 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -22,10 +29,13 @@ public class SecurityConfig {
 
     private final CustomUserDetailsService userDetailsService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationStore tokenRevocationStore;
 
-    public SecurityConfig(CustomUserDetailsService userDetailsService, JwtTokenProvider jwtTokenProvider) {
+    public SecurityConfig(CustomUserDetailsService userDetailsService, JwtTokenProvider jwtTokenProvider,
+                          TokenRevocationStore tokenRevocationStore) {
         this.userDetailsService = userDetailsService;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenRevocationStore = tokenRevocationStore;
     }
 
     @Bean
@@ -34,29 +44,40 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties) {
+        // BCrypt 연산은 전용 스레드 풀에서 처리
+        return new BoundedPasswordEncoder(properties);
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, RateLimitProperties rateLimitProperties,
+                                                   MeterRegistry meterRegistry, ObjectMapper objectMapper) throws Exception {
         http
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         // Preflight OPTIONS 요청 모두 허용
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        // 예외로 인한 /error 포워드는 인가하지 않음 → 401/503 등 원래 상태 코드가 그대로 전달됨
+                        .dispatcherTypeMatchers(DispatcherType.ERROR).permitAll()
                         .requestMatchers(
                                 "/swagger-ui/**", "/v3/api-docs/**",
-                                "/api/users/signup", "/api/users/login"
+                                "/api/users/signup", "/api/users/login", "/api/users/refresh",
+                                "/actuator/health", "/error"
                         ).permitAll()
                         .anyRequest().authenticated()
                 );
 
         // JWT 인증 필터를 UsernamePasswordAuthenticationFilter 이전에 추가
-        http.addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService),
+        http.addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, tokenRevocationStore),
                 UsernamePasswordAuthenticationFilter.class);
 
+        // 로그인/회원가입/친구 요청 횟수 제한 (친구 요청은 인증된 사용자 기준이므로 JWT 필터 다음에 실행)
+        if (rateLimitProperties.isEnabled()) {
+            http.addFilterAfter(new RateLimitFilter(rateLimitProperties, meterRegistry, objectMapper),
+                    JwtAuthenticationFilter.class);
+        }
+
         return http.build();
     }
 }
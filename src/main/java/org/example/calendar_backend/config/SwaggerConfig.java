@@ -7,8 +7,11 @@ import io.swagger.v3.oas.models.security.SecurityScheme;
 import org.springdoc.core.models.GroupedOpenApi;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 
+// 운영(prod) 프로파일에서는 API 문서를 제공하지 않음 (기동 시 컨트롤러 스캔 생략)
 @Configuration
+@Profile("!prod")
 public class SwaggerConfig {
 
     @Bean
@@ -0,0 +1,44 @@
+package org.example.calendar_backend.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.example.calendar_backend.dto.FriendGroupDTO;
+import org.example.calendar_backend.service.FriendGroupService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/users/friends/groups")
+@RequiredArgsConstructor
+public class FriendGroupController {
+
+    private final FriendGroupService friendGroupService;
+
+    @Operation(summary = "친구 그룹 생성", description = "일정 공유에 사용할 친구 그룹을 만듭니다. 구성원은 수락된 친구만 가능합니다.")
+    @PostMapping
+    public ResponseEntity<FriendGroupDTO> createGroup(@RequestBody FriendGroupDTO groupDTO) {
+        return new ResponseEntity<>(friendGroupService.createGroup(groupDTO), HttpStatus.CREATED);
+    }
+
+    @Operation(summary = "친구 그룹 목록 조회", description = "내가 만든 친구 그룹과 구성원을 조회합니다.")
+    @GetMapping
+    public ResponseEntity<List<FriendGroupDTO>> getGroups() {
+        return ResponseEntity.ok(friendGroupService.getGroups());
+    }
+
+    @Operation(summary = "친구 그룹 구성원 변경", description = "그룹 구성원을 주어진 친구 목록으로 교체합니다.")
+    @PutMapping("/{id}/members")
+    public ResponseEntity<FriendGroupDTO> replaceMembers(@PathVariable Long id, @RequestBody List<String> memberEmails) {
+        return ResponseEntity.ok(friendGroupService.replaceMembers(id, memberEmails));
+    }
+
+    @Operation(summary = "친구 그룹 삭제", description = "친구 그룹과 그룹 대상 일정 공유를 삭제합니다.")
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteGroup(@PathVariable Long id) {
+        friendGroupService.deleteGroup(id);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+}
@@ -2,12 +2,26 @@ package org.example.calendar_backend.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
+import org.example.calendar_backend.dto.AvailabilityHeatmapDTO;
+import org.example.calendar_backend.dto.CalendarSummaryDTO;
 import org.example.calendar_backend.dto.ScheduleDTO;
+import org.example.calendar_backend.dto.ScheduleShareDTO;
+import org.example.calendar_backend.exception.PreconditionFailedException;
+import org.example.calendar_backend.service.AvailabilityHeatmapService;
+import org.example.calendar_backend.service.CalendarSnapshotService;
+import org.example.calendar_backend.service.CalendarSummaryService;
+import org.example.calendar_backend.service.ScheduleSearchService;
 import org.example.calendar_backend.service.ScheduleService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
 
 @RestController
@@ -16,6 +30,10 @@ import java.util.List;
 public class ScheduleController {
 
     private final ScheduleService scheduleService;
+    private final ScheduleSearchService scheduleSearchService;
+    private final CalendarSummaryService calendarSummaryService;
+    private final AvailabilityHeatmapService availabilityHeatmapService;
+    private final CalendarSnapshotService calendarSnapshotService;
 
     @Operation(summary = "일정 생성", description = "새로운 일정을 생성합니다.")
     @PostMapping
@@ -24,37 +42,117 @@ public class ScheduleController {
         return new ResponseEntity<>(createdSchedule, HttpStatus.CREATED);
     }
 
-    @Operation(summary = "일정 리스트 조회", description = "사용자의 일정 목록을 조회합니다.")
+    @Operation(summary = "일정 리스트 조회", description = "사용자의 일정 목록을 조회합니다. includeArchived=true 이면 보관된 오래된 일정도 포함합니다.")
     @GetMapping("/user")
-    public ResponseEntity<List<ScheduleDTO>> getSchedulesByUserEmail() {
-        List<ScheduleDTO> schedules = scheduleService.getSchedulesByUserEmail();
+    public ResponseEntity<List<ScheduleDTO>> getSchedulesByUserEmail(@RequestParam(defaultValue = "false") boolean includeArchived) {
+        List<ScheduleDTO> schedules = scheduleService.getSchedulesByUserEmail(includeArchived);
         return new ResponseEntity<>(schedules, HttpStatus.OK);
     }
 
-    @Operation(summary = "일정 상세 조회", description = "특정 일정을 ID를 통해 조회합니다.")
+    @Operation(summary = "일정 상세 조회", description = "특정 일정을 ID를 통해 조회합니다. 응답의 ETag 는 수정 시 If-Match 에 사용합니다.")
     @GetMapping("/{id}")
     public ResponseEntity<ScheduleDTO> getScheduleById(@PathVariable Long id) {
         ScheduleDTO schedule = scheduleService.getScheduleById(id);
-        return new ResponseEntity<>(schedule, HttpStatus.OK);
+        return ResponseEntity.ok().eTag(String.valueOf(schedule.getVersion())).body(schedule);
     }
 
-    @Operation(summary = "일정 수정", description = "기존 일정을 수정합니다.")
+    @Operation(summary = "일정 수정", description = "기존 일정을 수정합니다. If-Match 헤더가 있으면 버전이 일치할 때만 수정하고, 다르면 412 를 반환합니다. 본인 일정이 아니면 403 을 반환합니다.")
     @PutMapping("/{id}")
-    public ResponseEntity<ScheduleDTO> updateSchedule(@PathVariable Long id, @RequestBody ScheduleDTO scheduleDTO) {
-        ScheduleDTO updatedSchedule = scheduleService.updateSchedule(id, scheduleDTO);
-        return new ResponseEntity<>(updatedSchedule, HttpStatus.OK);
+    public ResponseEntity<ScheduleDTO> updateSchedule(@PathVariable Long id, @RequestBody ScheduleDTO scheduleDTO,
+                                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long expectedVersion = parseVersion(ifMatch);
+        ScheduleDTO updatedSchedule = expectedVersion == null
+                ? scheduleService.updateSchedule(id, scheduleDTO)
+                : scheduleService.updateScheduleIfMatch(id, expectedVersion, scheduleDTO);
+        return ResponseEntity.ok().eTag(String.valueOf(updatedSchedule.getVersion())).body(updatedSchedule);
     }
 
-    @Operation(summary = "일정 삭제", description = "지정된 ID의 일정을 삭제합니다.")
+    @Operation(summary = "일정 삭제", description = "지정된 ID의 일정을 삭제합니다. 본인 일정이 아니면 403 을 반환합니다.")
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteSchedule(@PathVariable Long id) {
         scheduleService.deleteSchedule(id);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
-    @Operation(summary = "친구의 일정 조회", description = "친구의 이메일을 통해 해당 친구의 일정을 조회합니다.")
+    @Operation(summary = "친구의 일정 조회", description = "친구의 이메일을 통해 해당 친구의 공개 일정과 나에게 공유된 일정을 조회합니다. from/to 를 지정하면 해당 기간과 겹치는 일정만 조회합니다.")
     @GetMapping("/friend-schedules")
-    public List<ScheduleDTO> getFriendSchedules(@RequestParam String friendEmail) {
-        return scheduleService.getFriendSchedules(friendEmail);
+    public List<ScheduleDTO> getFriendSchedules(@RequestParam String friendEmail,
+                                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return scheduleService.getFriendSchedules(friendEmail, from, to);
+    }
+
+    @Operation(summary = "일정 공유 대상 조회", description = "내 일정을 공유한 친구와 친구 그룹을 조회합니다.")
+    @GetMapping("/{id}/shares")
+    public ResponseEntity<ScheduleShareDTO> getShares(@PathVariable Long id) {
+        return new ResponseEntity<>(scheduleService.getShares(id), HttpStatus.OK);
+    }
+
+    @Operation(summary = "일정 공유 대상 변경", description = "비공개 일정을 볼 수 있는 친구와 친구 그룹을 지정합니다. 기존 공유 대상은 교체됩니다.")
+    @PutMapping("/{id}/shares")
+    public ResponseEntity<ScheduleShareDTO> replaceShares(@PathVariable Long id, @RequestBody ScheduleShareDTO shareDTO) {
+        return new ResponseEntity<>(scheduleService.replaceShares(id, shareDTO), HttpStatus.OK);
+    }
+
+    @Operation(summary = "일정 검색", description = "내 일정과 친구의 공개 일정, 나에게 공유된 일정을 제목/설명 키워드로 검색합니다.")
+    @GetMapping("/search")
+    public ResponseEntity<List<ScheduleDTO>> searchSchedules(@RequestParam String q,
+                                                             @RequestParam(defaultValue = "20") int limit) {
+        List<ScheduleDTO> schedules = scheduleSearchService.searchSchedules(q, limit);
+        return new ResponseEntity<>(schedules, HttpStatus.OK);
+    }
+
+    @Operation(summary = "월간 일정 요약", description = "월(yyyy-MM)의 날짜별 일정 수와 상위 일정 몇 개를 조회합니다.")
+    @GetMapping("/summary/month")
+    public ResponseEntity<CalendarSummaryDTO> getMonthSummary(@RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+                                                              @RequestParam(defaultValue = "UTC") String timeZone,
+                                                              @RequestParam(defaultValue = "3") int top) {
+        CalendarSummaryDTO summary = calendarSummaryService.getMonthSummary(month, timeZone, top);
+        return new ResponseEntity<>(summary, HttpStatus.OK);
+    }
+
+    @Operation(summary = "월간 일정 목록", description = "월(yyyy-MM, 저장 시간대 기준)에 걸친 내 일정 전체를 조회합니다. 미리 직렬화된 스냅샷으로 응답합니다.")
+    @GetMapping(value = "/month", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getMonthSchedules(@RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        byte[] body = calendarSnapshotService.getMonthSchedules(month);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    @Operation(summary = "주간 일정 요약", description = "시작일(yyyy-MM-dd)부터 7일간의 날짜별 일정 수와 상위 일정 몇 개를 조회합니다.")
+    @GetMapping("/summary/week")
+    public ResponseEntity<CalendarSummaryDTO> getWeekSummary(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+                                                             @RequestParam(defaultValue = "UTC") String timeZone,
+                                                             @RequestParam(defaultValue = "3") int top) {
+        CalendarSummaryDTO summary = calendarSummaryService.getWeekSummary(start, timeZone, top);
+        return new ResponseEntity<>(summary, HttpStatus.OK);
+    }
+
+    @Operation(summary = "친구 일정 히트맵", description = "시작일(yyyy-MM-dd)부터 days 일 동안 15분 단위 칸별로 바쁜 인원 수를 조회합니다. 친구는 공개 일정과 나에게 공유된 일정만 반영됩니다.")
+    @GetMapping("/heatmap")
+    public ResponseEntity<AvailabilityHeatmapDTO> getAvailabilityHeatmap(@RequestParam(defaultValue = "") List<String> friendEmails,
+                                                                         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+                                                                         @RequestParam(defaultValue = "7") int days,
+                                                                         @RequestParam(defaultValue = "UTC") String timeZone,
+                                                                         @RequestParam(defaultValue = "true") boolean includeMe) {
+        AvailabilityHeatmapDTO heatmap = availabilityHeatmapService.getHeatmap(friendEmails, start, days, timeZone, includeMe);
+        return new ResponseEntity<>(heatmap, HttpStatus.OK);
+    }
+
+    /**
+     * If-Match 헤더의 ETag("3", W/"3")에서 버전 추출 (없거나 * 이면 null)
+     */
+    private Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        try {
+            return Long.parseLong(tag.replace("\"", ""));
+        } catch (NumberFormatException ex) {
+            throw new PreconditionFailedException("올바르지 않은 If-Match 값입니다: " + ifMatch);
+        }
     }
 }
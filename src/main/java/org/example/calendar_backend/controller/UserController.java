@@ -1,6 +1,7 @@
 package org.example.calendar_backend.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.calendar_backend.dto.*;
 import org.example.calendar_backend.service.UserService;
@@ -33,6 +34,13 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "토큰 재발급", description = "리프레쉬 토큰으로 새 액세스 토큰과 리프레쉬 토큰을 발급받습니다.")
+    @PostMapping("/refresh")
+    public ResponseEntity<JwtAuthenticationResponse> refresh(@Valid @RequestBody RefreshTokenRequestDTO refreshRequest) {
+        JwtAuthenticationResponse response = userService.refresh(refreshRequest);
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "친구 요청 보내기", description = "로그인한 사용자가 친구에게 요청을 보냅니다.")
     @PreAuthorize("isAuthenticated()")
     @PostMapping("/friends/request")
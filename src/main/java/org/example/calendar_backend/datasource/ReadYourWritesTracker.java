@@ -0,0 +1,54 @@
+package org.example.calendar_backend.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 마지막 쓰기 시각을 기록하여, 쓰기 직후 일정 시간 동안은 읽기도 primary 로 보내도록 판단한다.
+ * (replica 복제 지연 때문에 방금 저장한 데이터가 보이지 않는 문제 방지)
+ */
+public class ReadYourWritesTracker {
+
+    private final long windowNanos;
+    private final int maxTrackedUsers;
+    private final Map<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window, int maxTrackedUsers) {
+        this.windowNanos = window.toNanos();
+        this.maxTrackedUsers = maxTrackedUsers;
+    }
+
+    /**
+     * 쓰기 발생 기록
+     */
+    public void recordWrite(String user) {
+        if (windowNanos <= 0) {
+            return;
+        }
+        if (lastWriteNanos.size() >= maxTrackedUsers) {
+            evictExpired();
+        }
+        lastWriteNanos.put(user, System.nanoTime());
+    }
+
+    /**
+     * 최근 쓰기 이후 아직 primary 고정 시간 안에 있는지 확인
+     */
+    public boolean isSticky(String user) {
+        Long writtenAt = lastWriteNanos.get(user);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - writtenAt < windowNanos) {
+            return true;
+        }
+        lastWriteNanos.remove(user, writtenAt);
+        return false;
+    }
+
+    private void evictExpired() {
+        long now = System.nanoTime();
+        lastWriteNanos.entrySet().removeIf(entry -> now - entry.getValue() >= windowNanos);
+    }
+}
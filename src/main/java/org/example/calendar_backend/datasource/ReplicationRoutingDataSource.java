@@ -0,0 +1,65 @@
+package org.example.calendar_backend.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * readOnly 트랜잭션은 replica, 그 외는 primary 로 라우팅하는 DataSource.
+ * 트랜잭션 속성이 확정된 뒤 커넥션을 얻어야 하므로 반드시 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReadYourWritesTracker tracker;
+
+    public ReplicationRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesTracker tracker) {
+        this.tracker = tracker;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String user = getCurrentUser();
+
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // 방금 쓰기를 한 사용자는 복제 지연을 피하기 위해 primary 에서 읽음
+            if (user != null && tracker.isSticky(user)) {
+                return Route.PRIMARY;
+            }
+            return Route.REPLICA;
+        }
+
+        if (user != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+            tracker.recordWrite(user);
+            // 긴 트랜잭션을 고려하여 커밋 시점부터 다시 고정 시간을 계산
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        tracker.recordWrite(user);
+                    }
+                });
+            }
+        }
+        return Route.PRIMARY;
+    }
+
+    private String getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.calendar_backend.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class RoutingDataSourceProperties {
+
+    private boolean enabled = false;                         // readOnly 트랜잭션을 replica 로 보낼지 여부
+
+    private Duration readYourWritesWindow = Duration.ofSeconds(5); // 쓰기 이후 primary 고정 시간 (replica 지연 대비)
+
+    private int maxTrackedUsers = 100_000;                   // 최근 쓰기 사용자 추적 최대 수
+}
@@ -0,0 +1,19 @@
+package org.example.calendar_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+@Getter
+@AllArgsConstructor
+public class AvailabilityHeatmapDTO {
+    private LocalDate startDate;        // 조회 시작일 (포함)
+    private LocalDate endDate;          // 조회 종료일 (미포함)
+    private String timeZone;            // 날짜 계산 기준 시간대
+    private OffsetDateTime slotStart;   // 첫 칸의 시작 시각
+    private int slotMinutes;            // 칸 하나의 길이 (분)
+    private int participants;           // 집계에 포함된 인원 수
+    private int[] busyCounts;           // 칸별 바쁜 인원 수 (i 번째 칸: slotStart + i * slotMinutes)
+}
@@ -0,0 +1,16 @@
+package org.example.calendar_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class CalendarSummaryDTO {
+    private LocalDate startDate;        // 조회 시작일 (포함)
+    private LocalDate endDate;          // 조회 종료일 (미포함)
+    private String timeZone;            // 날짜 계산 기준 시간대
+    private List<DaySummaryDTO> days;   // 일정이 있는 날짜만 포함
+}
@@ -0,0 +1,15 @@
+package org.example.calendar_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class DaySummaryDTO {
+    private LocalDate date;               // 사용자 시간대 기준 날짜
+    private long count;                   // 해당 날짜에 시작하는 일정 수
+    private List<EventPreviewDTO> events; // 시작 시간 순 상위 N개 일정
+}
@@ -0,0 +1,15 @@
+package org.example.calendar_backend.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FriendGroupDTO {
+    private Long id;
+    private String name;                // 그룹 이름
+    private List<String> memberEmails;  // 그룹에 속한 친구 이메일
+}
@@ -0,0 +1,13 @@
+package org.example.calendar_backend.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class RefreshTokenRequestDTO {
+
+    @NotBlank
+    private String refreshToken;
+}
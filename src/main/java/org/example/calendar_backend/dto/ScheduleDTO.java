@@ -1,11 +1,13 @@
 package org.example.calendar_backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
 import java.time.LocalDateTime;
 
 @Data
 @Builder
+@NoArgsConstructor
 @AllArgsConstructor
 public class ScheduleDTO {
     private Long id;
@@ -14,4 +16,11 @@ public class ScheduleDTO {
     private LocalDateTime startTime;
     private LocalDateTime endTime;
     private Boolean isPublic;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long version;       // 낙관적 락 버전 (ETag / If-Match 용)
+
+    public ScheduleDTO(Long id, String title, String description, LocalDateTime startTime, LocalDateTime endTime, Boolean isPublic) {
+        this(id, title, description, startTime, endTime, isPublic, null);
+    }
 }
@@ -0,0 +1,14 @@
+package org.example.calendar_backend.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleShareDTO {
+    private List<String> userEmails;    // 공유할 친구 이메일
+    private List<Long> groupIds;        // 공유할 친구 그룹 ID
+}
@@ -0,0 +1,46 @@
+package org.example.calendar_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 종료된 지 오래된 일정 (schedule 테이블에서 옮겨진 읽기 전용 보관본, id 는 원본 그대로 유지)
+ */
+@Entity
+@Table(name = "schedule_archive")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedSchedule {
+
+    @Id
+    private Long id;                    // 원본 일정 ID
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;                  // 일정 소유자
+
+    @Column(nullable = false)
+    private String title;               // 일정 제목
+
+    private String description;         // 일정 설명
+
+    @Column(nullable = false)
+    private LocalDateTime startTime;    // 시작 시간
+
+    @Column(nullable = false)
+    private LocalDateTime endTime;      // 종료 시간
+
+    @Column(nullable = false)
+    private boolean isPublic;           // 공개 여부
+
+    @Column(nullable = false)
+    private Long version;               // 보관 시점의 버전
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;   // 보관 시각 (저장 시간대 기준)
+}
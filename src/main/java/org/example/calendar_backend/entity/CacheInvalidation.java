@@ -0,0 +1,45 @@
+package org.example.calendar_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 노드 간 캐시 무효화 기록. 데이터 변경과 같은 트랜잭션에서 추가되고, 각 노드가 id 순으로 읽어 로컬 캐시를 비운다.
+ */
+@Entity
+@Table(name = "cache_invalidation")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private Kind kind;
+
+    private Long ownerId;               // 대상 사용자 ID (일정 관련 기록)
+
+    @Column(length = 64)
+    private String entityKey;           // 대상 식별자 (일정 ID, 토큰 jti 등)
+
+    @Column(nullable = false, length = 36)
+    private String origin;              // 기록한 노드 ID (자기 기록은 이미 반영되었으므로 건너뜀)
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;    // UTC, 오래된 기록 정리용
+
+    public enum Kind {
+        SCHEDULE,            // 일정 생성/수정/삭제 (ownerId, 일정 ID)
+        SCHEDULES_ARCHIVED,  // 일정 보관 (ownerId)
+        SCHEDULE_SHARING,    // 일정 공유 대상 변경 (ownerId)
+        REVOKED_TOKEN        // 토큰/토큰 family 폐기 (jti 또는 family ID)
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.calendar_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "friend_group",
+        uniqueConstraints = @UniqueConstraint(name = "uk_friend_group_owner_name", columnNames = {"owner_id", "name"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FriendGroup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;                 // 친구 그룹 ID
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "owner_id", nullable = false)
+    private User owner;              // 그룹을 만든 사용자
+
+    @Column(nullable = false)
+    private String name;             // 그룹 이름
+}
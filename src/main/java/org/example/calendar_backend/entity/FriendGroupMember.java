@@ -0,0 +1,27 @@
+package org.example.calendar_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "friend_group_member",
+        uniqueConstraints = @UniqueConstraint(name = "uk_friend_group_member", columnNames = {"group_id", "member_id"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FriendGroupMember {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "group_id", nullable = false)
+    private FriendGroup friendGroup; // 소속 그룹
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false)
+    private User member;             // 그룹에 속한 친구
+}
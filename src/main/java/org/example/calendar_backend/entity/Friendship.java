@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_friendship_user_friend", columnNames = {"user_id", "friend_id"}))
 @Getter
 @Setter
 @NoArgsConstructor
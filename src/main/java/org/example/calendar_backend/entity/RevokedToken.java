@@ -0,0 +1,31 @@
+package org.example.calendar_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevokedToken {
+
+    @Id
+    @Column(length = 64)
+    private String id;                  // 토큰 jti 또는 토큰 family ID
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Kind kind;                  // 폐기 대상 종류
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;    // 원본 토큰 만료 시각 (UTC, 이후 삭제 가능)
+
+    public enum Kind {
+        TOKEN,   // 단일 토큰
+        FAMILY   // 같은 로그인에서 파생된 토큰 전체
+    }
+}
@@ -34,4 +34,8 @@ public class Schedule {
 
     @Column(nullable = false)
     private boolean isPublic;           // 공개 여부 (true면 친구에게 공유)
+
+    @Version
+    @Column(nullable = false)
+    private Long version;               // 낙관적 락 버전 (동시 수정 감지)
 }
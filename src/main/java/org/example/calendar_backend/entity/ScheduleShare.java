@@ -0,0 +1,39 @@
+package org.example.calendar_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 비공개 일정의 공유 대상 (특정 친구 또는 친구 그룹 중 하나)
+ */
+@Entity
+@Table(name = "schedule_share", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_schedule_share_user", columnNames = {"schedule_id", "target_user_id"}),
+        @UniqueConstraint(name = "uk_schedule_share_group", columnNames = {"schedule_id", "target_group_id"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduleShare {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "schedule_id", nullable = false)
+    private Schedule schedule;       // 공유된 일정
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;            // 일정 소유자 ID (소유자 기준 인덱스 조회용으로 중복 저장)
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "target_user_id")
+    private User targetUser;         // 공유 대상 친구
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "target_group_id")
+    private FriendGroup targetGroup; // 공유 대상 친구 그룹
+}
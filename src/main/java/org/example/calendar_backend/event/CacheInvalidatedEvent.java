@@ -0,0 +1,26 @@
+package org.example.calendar_backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.calendar_backend.entity.CacheInvalidation;
+
+/**
+ * 다른 노드에서 발생한 변경을 로컬 캐시에 반영하라는 이벤트 (CacheInvalidationPoller 가 발행)
+ * kind 가 null 이면 무효화 기록을 놓쳤을 수 있으므로 로컬 캐시 전체를 비워야 한다.
+ */
+@Getter
+@AllArgsConstructor
+public class CacheInvalidatedEvent {
+
+    private final CacheInvalidation.Kind kind;
+    private final Long ownerId;
+    private final String entityKey;
+
+    public static CacheInvalidatedEvent all() {
+        return new CacheInvalidatedEvent(null, null, null);
+    }
+
+    public boolean isAll() {
+        return kind == null;
+    }
+}
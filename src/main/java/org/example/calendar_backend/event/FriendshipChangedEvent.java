@@ -0,0 +1,25 @@
+package org.example.calendar_backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 친구 관계 상태가 바뀌었을 때 발행되는 이벤트 (감사 기록 등 후처리용)
+ */
+@Getter
+@AllArgsConstructor
+public class FriendshipChangedEvent {
+
+    public enum Type {
+        REQUESTED,
+        ACCEPTED,
+        REJECTED,
+        REMOVED
+    }
+
+    private final Type type;
+    private final Long actorId;        // 변경한 사용자 ID (인증 정보가 없으면 null)
+    private final Long friendshipId;   // 대상 친구 요청 ID (요청/삭제 시 null - 쓰기 트랜잭션에서 추가 조회를 하지 않기 위함)
+    private final String userEmail;    // 요청/삭제한 사용자 (수락/거절 시 null)
+    private final String friendEmail;  // 상대 사용자 (수락/거절 시 null)
+}
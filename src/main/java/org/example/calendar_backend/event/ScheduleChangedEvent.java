@@ -0,0 +1,26 @@
+package org.example.calendar_backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.calendar_backend.dto.ScheduleDTO;
+
+/**
+ * 일정 생성/수정/삭제 시 발행되는 이벤트 (캐시 무효화 등 후처리용)
+ */
+@Getter
+@AllArgsConstructor
+public class ScheduleChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final Long actorId;        // 변경한 사용자 ID (인증 정보가 없으면 null)
+    private final Long ownerId;        // 일정 소유자 ID
+    private final Long scheduleId;     // 일정 ID
+    private final ScheduleDTO before;  // 변경 전 일정 (생성 시, 조건부 수정 시 null)
+    private final ScheduleDTO after;   // 변경 후 일정 (삭제 시 null)
+}
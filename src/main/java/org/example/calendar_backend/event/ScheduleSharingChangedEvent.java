@@ -0,0 +1,14 @@
+package org.example.calendar_backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일정 공유 대상이나 친구 그룹 구성이 바뀌었을 때 발행되는 이벤트 (소유자 일정의 조회 결과가 달라짐)
+ */
+@Getter
+@AllArgsConstructor
+public class ScheduleSharingChangedEvent {
+
+    private final Long ownerId;   // 일정/그룹 소유자 ID
+}
@@ -0,0 +1,17 @@
+package org.example.calendar_backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * 오래된 일정이 보관 테이블로 옮겨졌을 때 발행되는 이벤트 (일정 자체는 삭제가 아니므로 ScheduleChangedEvent 와 구분)
+ */
+@Getter
+@AllArgsConstructor
+public class SchedulesArchivedEvent {
+
+    private final Set<Long> ownerIds;     // 일정이 옮겨진 사용자 ID
+    private final Set<Long> scheduleIds;  // 옮겨진 일정 ID
+}
@@ -0,0 +1,61 @@
+package org.example.calendar_backend.heatmap;
+
+/**
+ * 칸별 인원 수를 비트 단위로 나누어(bit-sliced) 더하는 카운터.
+ * planes[k] 의 i 번째 비트가 칸 i 인원 수의 k 번째 자리이며, 비트셋 하나를 더할 때 word 단위 반가산(AND/XOR)으로
+ * 64칸을 한 번에 처리한다. 사용자 N 명을 더하는 비용은 O(N * words * log N) 이다.
+ */
+public class BitSlicedCounter {
+
+    private final int slots;
+    private final int wordCount;
+    private long[][] planes = new long[0][];
+
+    public BitSlicedCounter(int slots) {
+        this.slots = slots;
+        this.wordCount = (slots + 63) >>> 6;
+    }
+
+    public void add(SlotBitset bitset) {
+        if (bitset.slots() != slots) {
+            throw new IllegalArgumentException("칸 수가 다른 비트셋은 더할 수 없습니다.");
+        }
+        long[] words = bitset.words();
+        for (int word = 0; word < wordCount; word++) {
+            long carry = words[word];
+            for (int plane = 0; carry != 0; plane++) {
+                if (plane == planes.length) {
+                    grow();
+                }
+                long sum = planes[plane][word] ^ carry;
+                carry &= planes[plane][word];
+                planes[plane][word] = sum;
+            }
+        }
+    }
+
+    /**
+     * 칸별 인원 수
+     */
+    public int[] counts() {
+        int[] counts = new int[slots];
+        for (int plane = 0; plane < planes.length; plane++) {
+            for (int word = 0; word < wordCount; word++) {
+                long bits = planes[plane][word];
+                while (bits != 0) {
+                    int slot = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    counts[slot] += 1 << plane;
+                    bits &= bits - 1;
+                }
+            }
+        }
+        return counts;
+    }
+
+    private void grow() {
+        long[][] grown = new long[planes.length + 1][];
+        System.arraycopy(planes, 0, grown, 0, planes.length);
+        grown[planes.length] = new long[wordCount];
+        planes = grown;
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.calendar_backend.heatmap;
+
+/**
+ * 시간 칸(slot)별 바쁨 여부를 비트로 담는 고정 길이 비트셋 (칸 i 는 words[i / 64] 의 i % 64 번째 비트)
+ */
+public class SlotBitset {
+
+    private final int slots;
+    private final long[] words;
+
+    public SlotBitset(int slots) {
+        this.slots = slots;
+        this.words = new long[(slots + 63) >>> 6];
+    }
+
+    /**
+     * [from, to) 칸을 바쁨으로 표시 (범위 밖은 잘라냄). 중간 word 는 통째로 채운다.
+     */
+    public void setRange(int from, int to) {
+        from = Math.max(from, 0);
+        to = Math.min(to, slots);
+        if (from >= to) {
+            return;
+        }
+        int firstWord = from >>> 6;
+        int lastWord = (to - 1) >>> 6;
+        long firstMask = -1L << from;           // 시프트 값은 하위 6비트만 사용됨
+        long lastMask = -1L >>> -to;
+        if (firstWord == lastWord) {
+            words[firstWord] |= firstMask & lastMask;
+            return;
+        }
+        words[firstWord] |= firstMask;
+        for (int word = firstWord + 1; word < lastWord; word++) {
+            words[word] = -1L;
+        }
+        words[lastWord] |= lastMask;
+    }
+
+    public int slots() {
+        return slots;
+    }
+
+    long[] words() {
+        return words;
+    }
+}
@@ -0,0 +1,192 @@
+package org.example.calendar_backend.reminder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠.
+ * 레벨 i 의 한 칸은 tick * wheelSize^i 시간을 담당하며, 상위 레벨의 칸은 시간이 되면 하위 레벨로 다시 나누어 넣는다(cascade).
+ * 등록/취소는 O(1), 시간 진행은 tick 당 O(만료된 타이머 수) 이며 키당 하나의 타이머만 유지한다(다시 등록하면 교체).
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화해야 한다.
+ */
+public class HierarchicalTimingWheel<K, V> {
+
+    private final long tickMillis;
+    private final int bits;
+    private final int mask;
+    private final int levels;
+    private final Node<K, V>[][] buckets;
+    private final Node<K, V> due = Node.sentinel();   // 이미 만료되어 다음 진행 시 바로 실행할 타이머
+    private final Map<K, Node<K, V>> timers = new HashMap<>();
+
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+        if (tickMillis <= 0 || levels <= 0 || wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("tickMillis/levels 는 양수, wheelSize 는 2 이상의 2의 거듭제곱이어야 합니다.");
+        }
+        this.tickMillis = tickMillis;
+        this.bits = Integer.numberOfTrailingZeros(wheelSize);
+        this.mask = wheelSize - 1;
+        this.levels = levels;
+        this.buckets = new Node[levels][wheelSize];
+        for (int level = 0; level < levels; level++) {
+            for (int slot = 0; slot < wheelSize; slot++) {
+                buckets[level][slot] = Node.sentinel();
+            }
+        }
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    /**
+     * 타이머 등록 (같은 키가 있으면 교체). 휠이 담을 수 있는 범위를 넘으면 false
+     */
+    public boolean schedule(K key, long deadlineMillis, V value) {
+        cancel(key);
+        Node<K, V> node = new Node<>(key, value, -Math.floorDiv(-deadlineMillis, tickMillis)); // 올림: 만료 시각 이후에 실행
+        if (!place(node)) {
+            return false;
+        }
+        timers.put(key, node);
+        return true;
+    }
+
+    public boolean cancel(K key) {
+        Node<K, V> node = timers.remove(key);
+        if (node == null) {
+            return false;
+        }
+        node.unlink();
+        return true;
+    }
+
+    public boolean contains(K key) {
+        return timers.containsKey(key);
+    }
+
+    public int size() {
+        return timers.size();
+    }
+
+    /**
+     * 현재 시각에서 등록 가능한 가장 늦은 만료 시각
+     */
+    public long horizonMillis() {
+        int shift = bits * (levels - 1);
+        long lastTick = (((currentTick >> shift) + mask + 1) << shift) - 1;
+        return lastTick * tickMillis;
+    }
+
+    /**
+     * nowMillis 까지 시간을 진행하며 만료된 타이머의 값을 만료 순서대로 전달
+     */
+    public void advanceTo(long nowMillis, Consumer<V> expired) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        fire(due, expired);
+        while (currentTick < targetTick) {
+            if (timers.isEmpty()) {
+                currentTick = targetTick;   // 비어 있으면 칸을 하나씩 넘길 필요 없음
+                return;
+            }
+            currentTick++;
+            for (int level = levels - 1; level > 0; level--) {
+                int shift = bits * level;
+                if ((currentTick & ((1L << shift) - 1)) == 0) {
+                    cascade(buckets[level][(int) ((currentTick >> shift) & mask)]);
+                }
+            }
+            fire(buckets[0][(int) (currentTick & mask)], expired);
+            fire(due, expired);
+        }
+    }
+
+    private boolean place(Node<K, V> node) {
+        if (node.expiryTick <= currentTick) {
+            due.append(node);
+            return true;
+        }
+        for (int level = 0; level < levels; level++) {
+            int shift = bits * level;
+            if ((node.expiryTick >> shift) - (currentTick >> shift) <= mask) {
+                buckets[level][(int) ((node.expiryTick >> shift) & mask)].append(node);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void cascade(Node<K, V> bucket) {
+        Node<K, V> node = bucket.detachAll();
+        while (node != null) {
+            Node<K, V> next = node.next;
+            node.prev = node.next = null;
+            place(node);    // 상위 레벨에 있던 타이머는 항상 하위 레벨(또는 due)에 들어감
+            node = next;
+        }
+    }
+
+    private void fire(Node<K, V> bucket, Consumer<V> expired) {
+        Node<K, V> node = bucket.detachAll();
+        while (node != null) {
+            Node<K, V> next = node.next;
+            node.prev = node.next = null;
+            timers.remove(node.key);
+            expired.accept(node.value);
+            node = next;
+        }
+    }
+
+    /**
+     * 칸마다 sentinel 을 가진 원형 이중 연결 리스트 (취소 시 O(1) 제거)
+     */
+    private static final class Node<K, V> {
+
+        private final K key;
+        private final V value;
+        private final long expiryTick;
+        private Node<K, V> prev;
+        private Node<K, V> next;
+
+        private Node(K key, V value, long expiryTick) {
+            this.key = key;
+            this.value = value;
+            this.expiryTick = expiryTick;
+        }
+
+        private static <K, V> Node<K, V> sentinel() {
+            Node<K, V> sentinel = new Node<>(null, null, 0);
+            sentinel.prev = sentinel.next = sentinel;
+            return sentinel;
+        }
+
+        private void append(Node<K, V> node) {
+            node.prev = prev;
+            node.next = this;
+            prev.next = node;
+            prev = node;
+        }
+
+        private void unlink() {
+            if (prev != null) {
+                prev.next = next;
+                next.prev = prev;
+                prev = next = null;
+            }
+        }
+
+        /**
+         * 모든 노드를 떼어내고 첫 노드 반환 (마지막 노드의 next 는 null)
+         */
+        private Node<K, V> detachAll() {
+            if (next == this) {
+                return null;
+            }
+            Node<K, V> first = next;
+            prev.next = null;
+            prev = next = this;
+            return first;
+        }
+    }
+}
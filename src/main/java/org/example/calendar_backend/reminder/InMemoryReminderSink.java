@@ -0,0 +1,31 @@
+package org.example.calendar_backend.reminder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 전달된 알림을 메모리에 쌓아두는 구현 (테스트/로컬 확인용)
+ */
+public class InMemoryReminderSink implements ReminderSink {
+
+    private final Queue<Reminder> reminders = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void send(Reminder reminder) {
+        reminders.add(reminder);
+    }
+
+    /**
+     * 쌓인 알림을 모두 꺼내 반환
+     */
+    public List<Reminder> drain() {
+        List<Reminder> drained = new ArrayList<>();
+        Reminder reminder;
+        while ((reminder = reminders.poll()) != null) {
+            drained.add(reminder);
+        }
+        return drained;
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.calendar_backend.reminder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림을 로그로만 남기는 기본 구현
+ */
+@Slf4j
+public class LoggingReminderSink implements ReminderSink {
+
+    @Override
+    public void send(Reminder reminder) {
+        log.info("Reminder: schedule={} owner={} title='{}' startTime={}",
+                reminder.scheduleId(), reminder.ownerId(), reminder.title(), reminder.startTime());
+    }
+}
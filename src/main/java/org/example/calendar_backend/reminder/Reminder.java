@@ -0,0 +1,10 @@
+package org.example.calendar_backend.reminder;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * 일정 시작 전 알림
+ */
+public record Reminder(Long scheduleId, Long ownerId, String title, LocalDateTime startTime, Instant remindAt) {
+}
@@ -0,0 +1,32 @@
+package org.example.calendar_backend.reminder;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.reminder")
+public class ReminderProperties {
+
+    public enum Sink {
+        LOG,
+        MEMORY
+    }
+
+    private boolean enabled = true;
+
+    private Duration leadTime = Duration.ofMinutes(10);         // 일정 시작 몇 분 전에 알릴지
+
+    private Duration lookAhead = Duration.ofMinutes(2);         // 한 번에 메모리로 읽어올 범위
+
+    private Duration refreshInterval = Duration.ofSeconds(30);  // 읽어온 범위를 앞으로 밀어내는 주기 (lookAhead 보다 짧아야 함)
+
+    private Duration tick = Duration.ofSeconds(1);              // 타이밍 휠 한 칸의 시간 (알림 정밀도)
+
+    private int loadBatchSize = 2000;                           // 한 번에 읽어올 일정 수
+
+    private Sink sink = Sink.LOG;
+}
@@ -0,0 +1,225 @@
+package org.example.calendar_backend.reminder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.calendar_backend.dto.ScheduleDTO;
+import org.example.calendar_backend.event.ScheduleChangedEvent;
+import org.example.calendar_backend.repository.ScheduleRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정 시작 전 알림 스케줄러.
+ * 곧 다가올 알림만 start_time 인덱스로 조금씩 앞당겨 읽어(look-ahead) 타이밍 휠에 넣고, 타이머 스레드가 만료된 알림을 sink 로 전달한다.
+ * 이미 읽어온 범위 안의 일정 변경은 일정 변경 이벤트로 타이머를 바로 고친다.
+ * 재시작 시 이미 시작한 일정은 다시 알리지 않고, 알림 시각은 지났지만 아직 시작하지 않은 일정은 바로 알린다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.reminder", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ReminderScheduler {
+
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_LEVELS = 3;
+
+    private final ScheduleRepository scheduleRepository;
+    private final ReminderSink sink;
+    private final ReminderProperties properties;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ZoneId storageZone;
+    private final Clock clock;
+    private final HierarchicalTimingWheel<Long, Reminder> wheel;
+    private final ScheduledExecutorService ticker;
+    private final Counter firedCounter;
+    private final Counter failedCounter;
+
+    private LocalDateTime loadedUntil;   // 이 시각 이전에 시작하는 일정은 휠에 반영됨 (저장 시간대 기준)
+    private final Set<Long> changedDuringLoad = new HashSet<>();
+    private final Map<Long, Reminder> deferred = new HashMap<>();   // 휠이 담을 수 있는 범위를 넘어 다음 look-ahead 때 다시 등록할 알림
+    private boolean loading;
+
+    public ReminderScheduler(ScheduleRepository scheduleRepository,
+                             ReminderSink sink,
+                             ReminderProperties properties,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.calendar.storage-zone:UTC}") String storageZone) {
+        this.scheduleRepository = scheduleRepository;
+        this.sink = sink;
+        this.properties = properties;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.storageZone = ZoneId.of(storageZone);
+        this.clock = Clock.systemUTC();
+        this.wheel = new HierarchicalTimingWheel<>(properties.getTick().toMillis(), WHEEL_SIZE, WHEEL_LEVELS, clock.millis());
+        this.loadedUntil = LocalDateTime.ofInstant(clock.instant(), this.storageZone);
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reminder-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.firedCounter = Counter.builder("reminders.fired").register(meterRegistry);
+        this.failedCounter = Counter.builder("reminders.failed").register(meterRegistry);
+        Gauge.builder("reminders.pending", this, ReminderScheduler::pendingCount).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        long tickMillis = properties.getTick().toMillis();
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        ticker.shutdownNow();
+    }
+
+    /**
+     * 읽어온 범위를 [loadedUntil, 현재 + leadTime + lookAhead) 만큼 앞으로 밀어 새로 들어온 일정을 휠에 등록
+     */
+    @Scheduled(fixedDelayString = "${app.reminder.refresh-interval:PT30S}")
+    public void loadUpcoming() {
+        LocalDateTime from;
+        LocalDateTime to = LocalDateTime.ofInstant(
+                clock.instant().plus(properties.getLeadTime()).plus(properties.getLookAhead()), storageZone);
+        synchronized (this) {
+            if (!deferred.isEmpty()) {
+                new ArrayList<>(deferred.values()).forEach(this::scheduleOrDefer);
+            }
+            if (!to.isAfter(loadedUntil)) {
+                return;
+            }
+            from = loadedUntil;
+            // 이벤트가 새 범위 기준으로 판단하도록 먼저 넓히고, 읽는 동안 변경된 일정은 이벤트 결과를 우선함
+            loadedUntil = to;
+            loading = true;
+            changedDuringLoad.clear();
+        }
+
+        int loaded = 0;
+        try {
+            LocalDateTime afterStart = from;
+            Long afterId = 0L;
+            while (true) {
+                LocalDateTime pageStart = afterStart;
+                Long pageAfterId = afterId;
+                List<Reminder> batch = readOnlyTransaction.execute(status -> scheduleRepository
+                        .findStartingBefore(pageStart, pageAfterId, to, PageRequest.of(0, properties.getLoadBatchSize()))
+                        .stream().map(row -> toReminder((Long) row[0], (Long) row[1], (String) row[2], (LocalDateTime) row[3]))
+                        .toList());
+                synchronized (this) {
+                    for (Reminder reminder : batch) {
+                        if (!changedDuringLoad.contains(reminder.scheduleId())) {
+                            scheduleOrDefer(reminder);
+                        }
+                    }
+                }
+                loaded += batch.size();
+                if (batch.size() < properties.getLoadBatchSize()) {
+                    break;
+                }
+                Reminder last = batch.get(batch.size() - 1);
+                afterStart = last.startTime();
+                afterId = last.scheduleId();
+            }
+        } catch (RuntimeException ex) {
+            log.error("Loading reminders between {} and {} failed after {} schedules", from, to, loaded, ex);
+        } finally {
+            synchronized (this) {
+                loading = false;
+                changedDuringLoad.clear();
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        ScheduleDTO after = event.getAfter();
+        synchronized (this) {
+            if (loading) {
+                changedDuringLoad.add(event.getScheduleId());
+            }
+            // 아직 읽어오지 않은 범위의 일정은 이후 look-ahead 조회에서 등록됨
+            if (after == null || after.getStartTime() == null || !after.getStartTime().isBefore(loadedUntil)) {
+                cancel(event.getScheduleId());
+                return;
+            }
+            Reminder reminder = toReminder(event.getScheduleId(), event.getOwnerId(), after.getTitle(), after.getStartTime());
+            if (reminder.remindAt().isAfter(clock.instant())) {
+                scheduleOrDefer(reminder);
+            } else {
+                cancel(reminder.scheduleId());
+            }
+        }
+    }
+
+    void tick() {
+        List<Reminder> expired = new ArrayList<>();
+        synchronized (this) {
+            wheel.advanceTo(clock.millis(), expired::add);
+        }
+        // sink 호출은 잠금 밖에서 (느린 sink 가 이벤트 처리/로딩을 막지 않도록)
+        for (Reminder reminder : expired) {
+            try {
+                sink.send(reminder);
+                firedCounter.increment();
+            } catch (RuntimeException ex) {
+                failedCounter.increment();
+                log.warn("Reminder delivery failed for schedule {}", reminder.scheduleId(), ex);
+            }
+        }
+    }
+
+    /**
+     * 휠에 등록하고, 휠이 담을 수 있는 범위를 넘으면 버리지 않고 다음 look-ahead 때 다시 등록 (잠금 안에서 호출)
+     */
+    private void scheduleOrDefer(Reminder reminder) {
+        if (wheel.schedule(reminder.scheduleId(), reminder.remindAt().toEpochMilli(), reminder)) {
+            deferred.remove(reminder.scheduleId());
+            return;
+        }
+        if (deferred.put(reminder.scheduleId(), reminder) == null) {
+            log.warn("Reminder for schedule {} at {} is beyond the timing wheel horizon, retrying on next look-ahead",
+                    reminder.scheduleId(), reminder.remindAt());
+        }
+    }
+
+    private void cancel(Long scheduleId) {
+        wheel.cancel(scheduleId);
+        deferred.remove(scheduleId);
+    }
+
+    private synchronized int pendingCount() {
+        return wheel.size() + deferred.size();
+    }
+
+    private Reminder toReminder(Long scheduleId, Long ownerId, String title, LocalDateTime startTime) {
+        Instant remindAt = startTime.atZone(storageZone).toInstant().minus(properties.getLeadTime());
+        return new Reminder(scheduleId, ownerId, title, startTime, remindAt);
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.calendar_backend.reminder;
+
+/**
+ * 알림 전달 대상 (푸시, 메일 등). 타이머 스레드에서 호출되므로 오래 걸리는 작업은 비동기로 처리해야 한다.
+ */
+public interface ReminderSink {
+
+    void send(Reminder reminder);
+}
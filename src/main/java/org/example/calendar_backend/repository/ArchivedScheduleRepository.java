@@ -0,0 +1,40 @@
+package org.example.calendar_backend.repository;
+
+import org.example.calendar_backend.entity.ArchivedSchedule;
+import org.example.calendar_backend.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ArchivedScheduleRepository extends JpaRepository<ArchivedSchedule, Long> {
+
+    // 특정 사용자의 보관된 일정 조회
+    List<ArchivedSchedule> findByUser(User user);
+
+    // 보관 대상 일정(종료 시각이 cutoff 이전)을 id 순으로 잠그며 조회 (옮기는 동안 수정되지 않도록)
+    // 결과: [id, user_id]
+    @Query(value = "SELECT s.id, s.user_id FROM schedule s WHERE s.end_time < :cutoff ORDER BY s.id LIMIT :limit FOR UPDATE",
+            nativeQuery = true)
+    List<Object[]> lockExpiredBatch(LocalDateTime cutoff, int limit);
+
+    // 일정을 보관 테이블로 복사
+    @Modifying
+    @Query(value = "INSERT INTO schedule_archive (id, user_id, title, description, start_time, end_time, is_public, version, archived_at) " +
+            "SELECT s.id, s.user_id, s.title, s.description, s.start_time, s.end_time, s.is_public, s.version, :archivedAt " +
+            "FROM schedule s WHERE s.id IN (:ids)", nativeQuery = true)
+    int copyFromSchedule(Collection<Long> ids, LocalDateTime archivedAt);
+
+    // 보관되는 일정의 공유 대상 삭제 (보관된 일정은 소유자만 조회)
+    @Modifying
+    @Query(value = "DELETE FROM schedule_share WHERE schedule_id IN (:ids)", nativeQuery = true)
+    int deleteSharesOf(Collection<Long> ids);
+
+    // 보관 테이블로 복사된 일정을 원본 테이블에서 삭제
+    @Modifying
+    @Query(value = "DELETE FROM schedule WHERE id IN (:ids)", nativeQuery = true)
+    int deleteFromSchedule(Collection<Long> ids);
+}
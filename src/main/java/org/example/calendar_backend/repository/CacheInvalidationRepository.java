@@ -0,0 +1,28 @@
+package org.example.calendar_backend.repository;
+
+import org.example.calendar_backend.entity.CacheInvalidation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidation, Long> {
+
+    // 마지막으로 읽은 기록 이후 (PK 범위 조회)
+    List<CacheInvalidation> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // 늦게 커밋된 기록 (이전 조회에서 비어 있던 id)
+    List<CacheInvalidation> findByIdInOrderByIdAsc(Collection<Long> ids);
+
+    @Query("select coalesce(max(c.id), 0) from CacheInvalidation c")
+    long findMaxId();
+
+    // 오래된 기록 정리
+    @Modifying
+    @Query("delete from CacheInvalidation c where c.createdAt < :cutoff")
+    int deleteCreatedBefore(LocalDateTime cutoff);
+}
@@ -0,0 +1,28 @@
+package org.example.calendar_backend.repository;
+
+import org.example.calendar_backend.entity.FriendGroupMember;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface FriendGroupMemberRepository extends JpaRepository<FriendGroupMember, Long> {
+
+    // 사용자가 만든 모든 그룹의 구성원 (엔티티 로딩 없이)
+    // 결과: [group_id, member_email]
+    @Query("select m.friendGroup.id, m.member.email from FriendGroupMember m where m.friendGroup.owner.id = :ownerId")
+    List<Object[]> findMemberEmailsByOwner(Long ownerId);
+
+    @Modifying
+    @Query("delete from FriendGroupMember m where m.friendGroup.id = :groupId")
+    int deleteByGroupId(Long groupId);
+
+    // 두 사용자를 서로의 그룹에서 제외 (친구 삭제 시) - 사용자 조회 없이 이메일로 한 번에 처리
+    @Modifying
+    @Query(value = "DELETE FROM friend_group_member WHERE (group_id, member_id) IN (" +
+            "SELECT g.id, m.id FROM friend_group g JOIN user o ON o.id = g.owner_id, user m " +
+            "WHERE (o.email = :userEmail AND m.email = :friendEmail) OR (o.email = :friendEmail AND m.email = :userEmail))",
+            nativeQuery = true)
+    int deleteMembersBetween(String userEmail, String friendEmail);
+}
@@ -0,0 +1,19 @@
+package org.example.calendar_backend.repository;
+
+import org.example.calendar_backend.entity.FriendGroup;
+import org.example.calendar_backend.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface FriendGroupRepository extends JpaRepository<FriendGroup, Long> {
+
+    // 사용자가 만든 그룹 목록
+    List<FriendGroup> findByOwnerOrderByIdAsc(User owner);
+
+    boolean existsByOwnerAndName(User owner, String name);
+
+    // 사용자가 만든 그룹 중 주어진 ID 에 해당하는 그룹
+    List<FriendGroup> findByOwnerAndIdIn(User owner, Collection<Long> ids);
+}
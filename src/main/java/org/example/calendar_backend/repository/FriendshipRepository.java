@@ -4,6 +4,8 @@ import org.example.calendar_backend.entity.Friendship;
 import org.example.calendar_backend.entity.FriendshipStatus;
 import org.example.calendar_backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,4 +17,36 @@ public interface FriendshipRepository extends JpaRepository<Friendship, Long> {
     List<Friendship> findByFriendAndStatus(User friend, FriendshipStatus status);
 
     Optional<Friendship> findByUserAndFriend(User user, User friend);
+
+    // 특정 상태의 친구 ID 목록만 조회 (엔티티 로딩 없이)
+    @Query("select f.friend.id from Friendship f where f.user.id = :userId and f.status = :status")
+    List<Long> findFriendIds(Long userId, FriendshipStatus status);
+
+    // 친구 요청 생성 (이미 (user_id, friend_id) 행이 있으면 무시) - 사용자 조회와 삽입을 한 번에 처리
+    // 반환값 0: 사용자가 없거나 이미 관계가 존재
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO friendship (user_id, friend_id, status) " +
+            "SELECT u.id, f.id, 'PENDING' FROM user u, user f " +
+            "WHERE u.email = :userEmail AND f.email = :friendEmail", nativeQuery = true)
+    int insertPendingIfAbsent(String userEmail, String friendEmail);
+
+    // 현재 상태가 expected 인 경우에만 상태 변경 (조회 없이 조건부 UPDATE)
+    @Modifying
+    @Query("update Friendship f set f.status = :status where f.id = :id and f.status = :expected")
+    int updateStatusIfMatches(Long id, FriendshipStatus expected, FriendshipStatus status);
+
+    // 친구 요청의 반대 방향 관계를 ACCEPTED 로 생성 또는 갱신 (upsert)
+    @Modifying
+    @Query(value = "INSERT INTO friendship (user_id, friend_id, status) " +
+            "SELECT r.friend_id, r.user_id, 'ACCEPTED' FROM friendship r WHERE r.id = :id " +
+            "ON DUPLICATE KEY UPDATE status = 'ACCEPTED'", nativeQuery = true)
+    int upsertAcceptedReverse(Long id);
+
+    // 두 사용자 사이의 양방향 친구 관계를 한 번에 삭제
+    @Modifying
+    @Query(value = "DELETE FROM friendship WHERE (user_id, friend_id) IN (" +
+            "SELECT a.id, b.id FROM user a, user b " +
+            "WHERE (a.email = :userEmail AND b.email = :friendEmail) OR (a.email = :friendEmail AND b.email = :userEmail))",
+            nativeQuery = true)
+    int deleteBetween(String userEmail, String friendEmail);
 }
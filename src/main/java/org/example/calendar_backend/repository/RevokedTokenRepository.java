@@ -0,0 +1,26 @@
+package org.example.calendar_backend.repository;
+
+import org.example.calendar_backend.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    // 아직 만료되지 않은 폐기 목록 조회 (재시작 시 메모리 복원용)
+    List<RevokedToken> findByExpiresAtAfter(LocalDateTime now);
+
+    // 폐기 기록 추가 (이미 있으면 무시). 반환값 0: 이미 폐기됨
+    // 같은 id 를 동시에 추가하면 먼저 추가한 트랜잭션이 끝날 때까지 기다리므로 한쪽만 1 을 받음
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO revoked_token (id, kind, expires_at) VALUES (:id, :kind, :expiresAt)", nativeQuery = true)
+    int insertIfAbsent(String id, String kind, LocalDateTime expiresAt);
+
+    // 만료된 폐기 기록 정리
+    @Modifying
+    @Query("delete from RevokedToken r where r.expiresAt < :now")
+    int deleteExpired(LocalDateTime now);
+}
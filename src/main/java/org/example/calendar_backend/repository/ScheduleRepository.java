@@ -2,8 +2,14 @@ package org.example.calendar_backend.repository;
 
 import org.example.calendar_backend.entity.Schedule;
 import org.example.calendar_backend.entity.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
@@ -13,4 +19,76 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
 
     // 친구의 공개된 일정만 조회하는 메서드
     List<Schedule> findByUserAndIsPublic(User user, boolean isPublic);
+
+    // 주어진 id 중 아직 schedule 테이블에 있는 id
+    @Query("select s.id from Schedule s where s.id in :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
+
+    // 사용자의 일정 중 [from, to) 와 겹치는 일정 (월별 스냅샷 생성용)
+    @Query("select s from Schedule s where s.user.id = :userId and s.startTime < :to and s.endTime > :from " +
+            "order by s.startTime, s.id")
+    List<Schedule> findOverlapping(Long userId, LocalDateTime from, LocalDateTime to);
+
+    // id 순으로 나누어 전체 일정 조회 (검색 색인 재구성용)
+    Slice<Schedule> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // (afterStart, afterId) 이후부터 to 이전에 시작하는 일정을 시작 시간 순으로 조회 (알림 look-ahead 용, start_time 인덱스 사용)
+    // 결과: [id, user_id, title, start_time]
+    @Query("select s.id, s.user.id, s.title, s.startTime from Schedule s " +
+            "where s.startTime < :to and (s.startTime > :afterStart or (s.startTime = :afterStart and s.id > :afterId)) " +
+            "order by s.startTime, s.id")
+    List<Object[]> findStartingBefore(LocalDateTime afterStart, Long afterId, LocalDateTime to, Pageable pageable);
+
+    // 조회자에게 공유된 비공개 일정 ID (조회자 본인 또는 조회자가 속한 그룹이 대상, schedule_share 인덱스만 사용)
+    String SHARED_WITH_VIEWER = "select sh.schedule.id from ScheduleShare sh where sh.ownerId in :ownerIds and (" +
+            "sh.targetUser.id = :viewerId or sh.targetGroup.id in (" +
+            "select m.friendGroup.id from FriendGroupMember m where m.member.id = :viewerId))";
+
+    // 친구 일정 중 조회자에게 공유된 비공개 일정 (공개 일정은 findByUserAndIsPublic 으로 따로 조회/캐시)
+    @Query("select s from Schedule s where s.user.id in :ownerIds and s.isPublic = false " +
+            "and s.id in (" + SHARED_WITH_VIEWER + ")")
+    List<Schedule> findSharedWith(Collection<Long> ownerIds, Long viewerId);
+
+    // 기간과 겹치는 친구 일정 중 조회자가 볼 수 있는 일정 (공개 + 공유)
+    @Query("select s from Schedule s where s.user.id in :ownerIds and s.startTime < :to and s.endTime > :from " +
+            "and (s.isPublic = true or s.id in (" + SHARED_WITH_VIEWER + "))")
+    List<Schedule> findVisibleInRange(Collection<Long> ownerIds, Long viewerId, LocalDateTime from, LocalDateTime to);
+
+    // 기간과 겹치는 일정의 [user_id, start_time, end_time] (조회자 본인은 전체, 나머지는 공개 또는 조회자에게 공유된 일정만)
+    @Query("select s.user.id, s.startTime, s.endTime from Schedule s " +
+            "where s.user.id in :ownerIds and s.startTime < :to and s.endTime > :from " +
+            "and (s.isPublic = true or s.user.id = :viewerId or s.id in (" + SHARED_WITH_VIEWER + "))")
+    List<Object[]> findBusyIntervals(Collection<Long> ownerIds, Long viewerId, LocalDateTime from, LocalDateTime to);
+
+    // 친구 일정 중 조회자에게 공유된 일정 ID (검색 결과 필터용)
+    @Query(SHARED_WITH_VIEWER)
+    List<Long> findIdsSharedWith(Collection<Long> ownerIds, Long viewerId);
+
+    // 버전이 일치하는 본인 일정만 수정 (SELECT 없이 한 번의 UPDATE, 반환값 0 이면 실패)
+    @Modifying
+    @Query("update Schedule s set s.title = :title, s.description = :description, s.startTime = :startTime, " +
+            "s.endTime = :endTime, s.isPublic = :isPublic, s.version = s.version + 1 " +
+            "where s.id = :id and s.user.id = :userId and s.version = :version")
+    int updateIfVersionMatches(Long id, Long userId, Long version, String title, String description,
+                               LocalDateTime startTime, LocalDateTime endTime, boolean isPublic);
+
+    // 기간 내 일정 수를 날짜별로 집계 (shiftMinutes: 저장 시간대 → 사용자 시간대 보정)
+    // 결과: [schedule_day, cnt]
+    @Query(value = "SELECT CAST(TIMESTAMPADD(MINUTE, :shiftMinutes, s.start_time) AS DATE) AS schedule_day, COUNT(*) AS cnt " +
+            "FROM schedule s " +
+            "WHERE s.user_id = :userId AND s.start_time >= :from AND s.start_time < :to " +
+            "GROUP BY schedule_day", nativeQuery = true)
+    List<Object[]> countByDay(Long userId, LocalDateTime from, LocalDateTime to, int shiftMinutes);
+
+    // 기간 내 날짜별 시작 시간 순 상위 N개 일정
+    // 결과: [id, title, start_time, end_time, is_public, schedule_day]
+    @Query(value = "SELECT r.id, r.title, r.start_time, r.end_time, r.is_public, r.schedule_day FROM (" +
+            "  SELECT d.*, ROW_NUMBER() OVER (PARTITION BY d.schedule_day ORDER BY d.start_time, d.id) AS rn FROM (" +
+            "    SELECT s.id, s.title, s.start_time, s.end_time, s.is_public, " +
+            "           CAST(TIMESTAMPADD(MINUTE, :shiftMinutes, s.start_time) AS DATE) AS schedule_day " +
+            "    FROM schedule s " +
+            "    WHERE s.user_id = :userId AND s.start_time >= :from AND s.start_time < :to" +
+            "  ) d" +
+            ") r WHERE r.rn <= :limit ORDER BY r.start_time, r.id", nativeQuery = true)
+    List<Object[]> findTopByDay(Long userId, LocalDateTime from, LocalDateTime to, int shiftMinutes, int limit);
 }
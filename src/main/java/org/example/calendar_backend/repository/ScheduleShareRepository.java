@@ -0,0 +1,31 @@
+package org.example.calendar_backend.repository;
+
+import org.example.calendar_backend.entity.ScheduleShare;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface ScheduleShareRepository extends JpaRepository<ScheduleShare, Long> {
+
+    // 일정의 공유 대상 (친구 이메일 또는 그룹 ID)
+    @Query("select sh from ScheduleShare sh left join fetch sh.targetUser where sh.schedule.id = :scheduleId")
+    List<ScheduleShare> findByScheduleId(Long scheduleId);
+
+    @Modifying
+    @Query("delete from ScheduleShare sh where sh.schedule.id = :scheduleId")
+    int deleteByScheduleId(Long scheduleId);
+
+    @Modifying
+    @Query("delete from ScheduleShare sh where sh.targetGroup.id = :groupId")
+    int deleteByGroupId(Long groupId);
+
+    // 두 사용자가 서로에게 개별 공유한 행 삭제 (친구 삭제 시) - 사용자 조회 없이 이메일로 한 번에 처리
+    @Modifying
+    @Query(value = "DELETE FROM schedule_share WHERE (owner_id, target_user_id) IN (" +
+            "SELECT a.id, b.id FROM user a, user b " +
+            "WHERE (a.email = :userEmail AND b.email = :friendEmail) OR (a.email = :friendEmail AND b.email = :userEmail))",
+            nativeQuery = true)
+    int deleteUserSharesBetween(String userEmail, String friendEmail);
+}
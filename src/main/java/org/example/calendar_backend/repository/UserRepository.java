@@ -2,11 +2,21 @@ package org.example.calendar_backend.repository;
 
 import org.example.calendar_backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
     // 이메일로 사용자 조회
     Optional<User> findByEmail(String email);
+
+    // 여러 이메일로 사용자 조회
+    List<User> findByEmailIn(Collection<String> emails);
+
+    // 여러 이메일의 사용자 ID (엔티티 로딩 없이)
+    @Query("select u.id from User u where u.email in :emails")
+    List<Long> findIdsByEmailIn(Collection<String> emails);
 }
@@ -0,0 +1,68 @@
+package org.example.calendar_backend.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색용 n-gram 토크나이저.
+ * 한글은 형태소 분석 없이도 부분 일치 검색이 되도록 단어별 1-gram, 2-gram 을 생성한다.
+ */
+public final class NGramTokenizer {
+
+    private NGramTokenizer() {
+    }
+
+    /**
+     * 대소문자/전각 문자 등을 통일
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 색인용 토큰: 각 단어의 모든 1-gram, 2-gram
+     */
+    public static Set<String> indexTokens(String normalizedText) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : normalizedText.split("[\\s\\p{Punct}]+")) {
+            int[] codePoints = word.codePoints().toArray();
+            for (int i = 0; i < codePoints.length; i++) {
+                tokens.add(new String(codePoints, i, 1));
+                if (i + 1 < codePoints.length) {
+                    tokens.add(new String(codePoints, i, 2));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색어용 토큰: 한 글자 단어는 1-gram, 그 외는 2-gram 만 사용 (후보를 좁히기 위함)
+     */
+    public static Set<String> queryTokens(String normalizedWord) {
+        Set<String> tokens = new LinkedHashSet<>();
+        int[] codePoints = normalizedWord.codePoints().toArray();
+        if (codePoints.length == 1) {
+            tokens.add(new String(codePoints, 0, 1));
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, 2));
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색어를 단어 단위로 분리
+     */
+    public static String[] queryWords(String query) {
+        return Arrays.stream(normalize(query).split("[\\s\\p{Punct}]+"))
+                .filter(word -> !word.isEmpty())
+                .toArray(String[]::new);
+    }
+}
@@ -0,0 +1,298 @@
+package org.example.calendar_backend.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.calendar_backend.dto.ScheduleDTO;
+import org.example.calendar_backend.entity.CacheInvalidation;
+import org.example.calendar_backend.entity.Schedule;
+import org.example.calendar_backend.event.CacheInvalidatedEvent;
+import org.example.calendar_backend.event.ScheduleChangedEvent;
+import org.example.calendar_backend.event.SchedulesArchivedEvent;
+import org.example.calendar_backend.repository.ScheduleRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * 일정 제목/설명에 대한 메모리 역색인 (n-gram).
+ * 애플리케이션 시작 시 DB 에서 다시 만들고, 이후에는 일정 변경 이벤트로 증분 갱신한다.
+ * 다른 노드에서 바뀐 일정은 CacheInvalidatedEvent 를 받아 primary 에서 다시 읽는다.
+ */
+@Slf4j
+@Component
+public class ScheduleSearchIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final ScheduleRepository scheduleRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate primaryTransaction;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, IndexedSchedule> documents = new HashMap<>();
+
+    // 재색인 중 삭제된 일정 (재색인이 오래된 데이터를 다시 넣지 않도록)
+    private final Set<Long> removedDuringRebuild = new HashSet<>();
+    private boolean rebuilding;
+
+    public ScheduleSearchIndex(ScheduleRepository scheduleRepository, PlatformTransactionManager transactionManager) {
+        this.scheduleRepository = scheduleRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Thread rebuildThread = new Thread(this::rebuildFromRepository, "schedule-search-rebuild");
+        rebuildThread.setDaemon(true);
+        rebuildThread.start();
+    }
+
+    /**
+     * DB 의 전체 일정을 id 순으로 나누어 읽어 색인 (이벤트로 이미 반영된 일정은 건너뜀)
+     */
+    void rebuildFromRepository() {
+        withWriteLock(() -> {
+            rebuilding = true;
+            removedDuringRebuild.clear();
+        });
+        long indexed = 0;
+        try {
+            Long lastId = 0L;
+            while (lastId != null) {
+                Long afterId = lastId;
+                List<IndexedSchedule> batch = readOnlyTransaction.execute(status -> {
+                    Slice<Schedule> slice = scheduleRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                    return slice.getContent().stream().map(IndexedSchedule::from).toList();
+                });
+                withWriteLock(() -> batch.stream()
+                        .filter(document -> !documents.containsKey(document.schedule().getId()))
+                        .filter(document -> !removedDuringRebuild.contains(document.schedule().getId()))
+                        .forEach(this::add));
+                indexed += batch.size();
+                lastId = batch.size() < REBUILD_BATCH_SIZE ? null : batch.get(batch.size() - 1).schedule().getId();
+            }
+            log.info("Schedule search index rebuilt: {} schedules", indexed);
+        } catch (RuntimeException ex) {
+            log.error("Schedule search index rebuild failed after {} schedules", indexed, ex);
+        } finally {
+            withWriteLock(() -> {
+                rebuilding = false;
+                removedDuringRebuild.clear();
+            });
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        if (event.getAfter() == null) {
+            remove(event.getScheduleId());
+        } else {
+            upsert(event.getOwnerId(), event.getAfter());
+        }
+    }
+
+    // 보관된 일정은 기본 조회 대상(hot)이 아니므로 색인에서도 제외
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSchedulesArchived(SchedulesArchivedEvent event) {
+        event.getScheduleIds().forEach(this::remove);
+    }
+
+    @EventListener
+    public void onRemoteInvalidation(CacheInvalidatedEvent event) {
+        if (event.isAll()) {
+            withWriteLock(() -> {
+                postings.clear();
+                documents.clear();
+            });
+            rebuild();
+        } else if (event.getKind() == CacheInvalidation.Kind.SCHEDULE) {
+            reload(Long.valueOf(event.getEntityKey()));
+        } else if (event.getKind() == CacheInvalidation.Kind.SCHEDULES_ARCHIVED) {
+            removeMissing(event.getOwnerId());
+        }
+    }
+
+    /**
+     * DB 의 현재 상태로 일정 하나를 다시 색인 (없으면 제거)
+     */
+    void reload(Long scheduleId) {
+        IndexedSchedule document = primaryTransaction.execute(status ->
+                scheduleRepository.findById(scheduleId).map(IndexedSchedule::from).orElse(null));
+        if (document == null) {
+            remove(scheduleId);
+        } else {
+            withWriteLock(() -> {
+                removeDocument(scheduleId);
+                add(document);
+            });
+        }
+    }
+
+    /**
+     * 사용자의 색인된 일정 중 schedule 테이블에서 빠진 일정 제거
+     */
+    void removeMissing(Long ownerId) {
+        List<Long> indexed = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            documents.values().stream()
+                    .filter(document -> document.ownerId().equals(ownerId))
+                    .forEach(document -> indexed.add(document.schedule().getId()));
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (indexed.isEmpty()) {
+            return;
+        }
+        Set<Long> existing = new HashSet<>();
+        for (int from = 0; from < indexed.size(); from += REBUILD_BATCH_SIZE) {
+            List<Long> chunk = indexed.subList(from, Math.min(from + REBUILD_BATCH_SIZE, indexed.size()));
+            existing.addAll(primaryTransaction.execute(status -> scheduleRepository.findExistingIds(chunk)));
+        }
+        indexed.stream().filter(id -> !existing.contains(id)).forEach(this::remove);
+    }
+
+    public void upsert(Long ownerId, ScheduleDTO schedule) {
+        IndexedSchedule document = IndexedSchedule.of(ownerId, schedule);
+        withWriteLock(() -> {
+            removeDocument(schedule.getId());
+            add(document);
+        });
+    }
+
+    public void remove(Long scheduleId) {
+        withWriteLock(() -> {
+            removeDocument(scheduleId);
+            if (rebuilding) {
+                removedDuringRebuild.add(scheduleId);
+            }
+        });
+    }
+
+    /**
+     * 검색어의 모든 단어를 포함하고, visible 조건을 만족하는 일정 검색 (시작 시간 내림차순)
+     */
+    public List<ScheduleDTO> search(String query, Predicate<IndexedSchedule> visible, int limit) {
+        String[] words = NGramTokenizer.queryWords(query);
+        if (words.length == 0) {
+            return List.of();
+        }
+
+        List<IndexedSchedule> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            List<Set<Long>> tokenPostings = new ArrayList<>();
+            for (String word : words) {
+                for (String token : NGramTokenizer.queryTokens(word)) {
+                    Set<Long> posting = postings.get(token);
+                    if (posting == null) {
+                        return List.of();
+                    }
+                    tokenPostings.add(posting);
+                }
+            }
+
+            // 가장 작은 집합부터 교집합
+            tokenPostings.sort(Comparator.comparingInt(Set::size));
+            Set<Long> candidates = new HashSet<>(tokenPostings.get(0));
+            for (int i = 1; i < tokenPostings.size() && !candidates.isEmpty(); i++) {
+                candidates.retainAll(tokenPostings.get(i));
+            }
+
+            for (Long id : candidates) {
+                IndexedSchedule document = documents.get(id);
+                // n-gram 교집합은 후보일 뿐이므로 실제 포함 여부 확인
+                if (document != null && document.containsAll(words) && visible.test(document)) {
+                    matches.add(document);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return matches.stream()
+                .sorted(Comparator.comparing((IndexedSchedule document) -> document.schedule().getStartTime()).reversed())
+                .limit(limit)
+                .map(IndexedSchedule::schedule)
+                .toList();
+    }
+
+    private void add(IndexedSchedule document) {
+        documents.put(document.schedule().getId(), document);
+        for (String token : document.tokens()) {
+            postings.computeIfAbsent(token, t -> new HashSet<>()).add(document.schedule().getId());
+        }
+    }
+
+    private void removeDocument(Long scheduleId) {
+        IndexedSchedule existing = documents.remove(scheduleId);
+        if (existing == null) {
+            return;
+        }
+        for (String token : existing.tokens()) {
+            Set<Long> posting = postings.get(token);
+            if (posting != null) {
+                posting.remove(scheduleId);
+                if (posting.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    private void withWriteLock(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 일정 (소유자, 응답용 DTO, 정규화된 본문, 토큰)
+     */
+    public record IndexedSchedule(Long ownerId, ScheduleDTO schedule, String text, Set<String> tokens) {
+
+        static IndexedSchedule of(Long ownerId, ScheduleDTO schedule) {
+            String text = NGramTokenizer.normalize(schedule.getTitle()) + "\n" + NGramTokenizer.normalize(schedule.getDescription());
+            return new IndexedSchedule(ownerId, schedule, text, NGramTokenizer.indexTokens(text));
+        }
+
+        static IndexedSchedule from(Schedule schedule) {
+            return of(schedule.getUser().getId(), new ScheduleDTO(schedule.getId(), schedule.getTitle(),
+                    schedule.getDescription(), schedule.getStartTime(), schedule.getEndTime(), schedule.isPublic()));
+        }
+
+        boolean containsAll(String[] words) {
+            for (String word : words) {
+                if (!text.contains(word)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        public boolean isPublic() {
+            return Boolean.TRUE.equals(schedule.getIsPublic());
+        }
+    }
+}
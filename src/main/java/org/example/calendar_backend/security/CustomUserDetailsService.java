@@ -3,13 +3,14 @@ package org.example.calendar_backend.security;
 import org.example.calendar_backend.entity.User;
 import org.example.calendar_backend.repository.UserRepository;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -25,4 +26,17 @@ public class CustomUserDetailsService implements UserDetailsService {
 
         return UserPrincipal.from(user);
     }
+
+    /**
+     * 로그인 성공 시 BCrypt cost 가 변경되었으면 새 해시로 교체 (DaoAuthenticationProvider 가 호출)
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + userDetails.getUsername()));
+        user.setPassword(newPassword);
+
+        return UserPrincipal.from(user);
+    }
 }
@@ -1,5 +1,6 @@
 package org.example.calendar_backend.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,10 +15,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final TokenRevocationStore tokenRevocationStore;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, CustomUserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, CustomUserDetailsService userDetailsService,
+                                   TokenRevocationStore tokenRevocationStore) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.userDetailsService = userDetailsService;
+        this.tokenRevocationStore = tokenRevocationStore;
     }
 
     @Override
@@ -25,9 +29,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // Authorization 헤더에서 JWT 토큰 추출
         String token = getTokenFromRequest(request);
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
+        // 서명/만료 검증 (한 번만 파싱)
+        Claims claims = token != null ? jwtTokenProvider.parseClaims(token) : null;
+
+        if (claims != null && isUsableAccessToken(claims)) {
             // JWT 토큰이 유효한 경우, 사용자 ID 추출
-            String email = jwtTokenProvider.getUserIdFromJWT(token);
+            String email = claims.getSubject();
 
             // 사용자 정보 가져오기
             UserPrincipal userPrincipal = (UserPrincipal) userDetailsService.loadUserByUsername(email);
@@ -39,6 +46,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 액세스 토큰(typ=access)만 API 인증에 사용할 수 있고, 폐기된 토큰은 메모리에서 확인 (SQL 없음)
+     */
+    private boolean isUsableAccessToken(Claims claims) {
+        if (!JwtTokenProvider.TYPE_ACCESS.equals(claims.get(JwtTokenProvider.CLAIM_TYPE, String.class))) {
+            return false;
+        }
+        return !tokenRevocationStore.isRevoked(claims.getId(), claims.get(JwtTokenProvider.CLAIM_FAMILY, String.class));
+    }
+
     private String getTokenFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
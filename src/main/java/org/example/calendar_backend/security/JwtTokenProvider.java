@@ -9,6 +9,7 @@ import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
@@ -18,34 +19,69 @@ public class JwtTokenProvider {
     private final long JWT_EXPIRATION = 3600000;          // 1시간
     private final long REFRESH_TOKEN_EXPIRATION = 86400000; // 24시간
 
+    public static final String CLAIM_TYPE = "typ";        // 토큰 종류 (access / refresh)
+    public static final String CLAIM_FAMILY = "fam";      // 같은 로그인에서 파생된 토큰 묶음 ID
+    public static final String TYPE_ACCESS = "access";
+    public static final String TYPE_REFRESH = "refresh";
+
     // 512비트 키 생성
     private final Key key = Keys.hmacShaKeyFor(JWT_SECRET.getBytes()); // 기존 SECRET로 512비트 키 생성
 
 
+    // 새 토큰 family ID 생성 (로그인 시마다 새로 발급)
+    public String newFamilyId() {
+        return UUID.randomUUID().toString();
+    }
+
     // 액세스 토큰 생성
     public String generateToken(String email) {
-        Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + JWT_EXPIRATION);
-        return Jwts.builder()
-                .setSubject(email)
-                .setIssuedAt(now)
-                .setExpiration(expiryDate)
-                .signWith(SignatureAlgorithm.HS512, key)
-                .compact();
+        return generateToken(email, newFamilyId());
+    }
+
+    public String generateToken(String email, String familyId) {
+        return buildToken(email, familyId, TYPE_ACCESS, JWT_EXPIRATION);
     }
 
     // 리프레쉬 토큰 생성
     public String generateRefreshToken(String email) {
+        return generateRefreshToken(email, newFamilyId());
+    }
+
+    public String generateRefreshToken(String email, String familyId) {
+        return buildToken(email, familyId, TYPE_REFRESH, REFRESH_TOKEN_EXPIRATION);
+    }
+
+    // 리프레쉬 토큰 유효 기간 (family 폐기 기록 보관 기간으로 사용)
+    public long getRefreshTokenExpiration() {
+        return REFRESH_TOKEN_EXPIRATION;
+    }
+
+    private String buildToken(String email, String familyId, String type, long expiration) {
         Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + REFRESH_TOKEN_EXPIRATION);
+        Date expiryDate = new Date(now.getTime() + expiration);
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(email)
+                .claim(CLAIM_TYPE, type)
+                .claim(CLAIM_FAMILY, familyId)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(SignatureAlgorithm.HS512, key)
                 .compact();
     }
 
+    // 서명/만료 검증 후 Claims 반환 (유효하지 않으면 null)
+    public Claims parseClaims(String token) {
+        try {
+            return Jwts.parser()
+                    .setSigningKey(key)
+                    .parseClaimsJws(token)
+                    .getBody();
+        } catch (JwtException | IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
     // JWT에서 사용자 ID 추출
     public String getUserIdFromJWT(String token) {
         Claims claims = Jwts.parser()
@@ -0,0 +1,21 @@
+package org.example.calendar_backend.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.password")
+public class PasswordHashingProperties {
+
+    private int bcryptStrength = 10;                                  // BCrypt cost (변경 시 로그인 때 재해시)
+
+    private int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2); // 해시 전용 스레드 수
+
+    private int queueCapacity = 64;                                   // 해시 작업 대기열 크기
+
+    private Duration timeout = Duration.ofSeconds(5);                 // 해시 작업 최대 대기 시간
+}
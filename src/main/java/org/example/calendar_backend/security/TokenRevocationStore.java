@@ -0,0 +1,139 @@
+package org.example.calendar_backend.security;
+
+import jakarta.annotation.PostConstruct;
+import org.example.calendar_backend.cache.CacheInvalidationLog;
+import org.example.calendar_backend.entity.CacheInvalidation;
+import org.example.calendar_backend.entity.RevokedToken;
+import org.example.calendar_backend.event.CacheInvalidatedEvent;
+import org.example.calendar_backend.repository.RevokedTokenRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 토큰(jti)과 토큰 family 를 메모리에 보관하여 요청마다 SQL 없이 O(1) 로 확인한다.
+ * 폐기 시에만 DB 에 기록하고, 재시작 시 만료되지 않은 기록을 다시 읽어온다.
+ * 만료된 항목은 주기적으로 메모리와 DB 에서 제거된다.
+ * 다른 노드의 폐기는 캐시 무효화 기록(REVOKED_TOKEN)을 받아 primary 에서 읽어온다 (복제 지연으로 놓치지 않도록).
+ */
+@Component
+public class TokenRevocationStore {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final CacheInvalidationLog cacheInvalidationLog;
+    private final TransactionTemplate primaryTransaction;
+    private final Map<String, Instant> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<String, Instant> revokedFamilies = new ConcurrentHashMap<>();
+
+    public TokenRevocationStore(RevokedTokenRepository revokedTokenRepository,
+                                CacheInvalidationLog cacheInvalidationLog,
+                                PlatformTransactionManager transactionManager) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.cacheInvalidationLog = cacheInvalidationLog;
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void load() {
+        List<RevokedToken> revoked = primaryTransaction.execute(status ->
+                revokedTokenRepository.findByExpiresAtAfter(toUtc(Instant.now())));
+        for (RevokedToken token : revoked) {
+            mapFor(token.getKind()).put(token.getId(), token.getExpiresAt().toInstant(ZoneOffset.UTC));
+        }
+    }
+
+    /**
+     * 토큰 또는 토큰이 속한 family 가 폐기되었는지 확인 (DB 조회 없음)
+     */
+    public boolean isRevoked(String tokenId, String familyId) {
+        return (tokenId != null && revokedTokens.containsKey(tokenId))
+                || (familyId != null && revokedFamilies.containsKey(familyId));
+    }
+
+    public boolean isFamilyRevoked(String familyId) {
+        return familyId != null && revokedFamilies.containsKey(familyId);
+    }
+
+    /**
+     * 토큰 폐기. 이미 폐기된 토큰이면 false (동시에 같은 리프레쉬 토큰이 사용된 경우 DB 기본 키로 한쪽만 성공)
+     * 메모리는 커밋 후에 반영하므로, 트랜잭션이 롤백되면 이 노드에도 폐기 기록이 남지 않는다.
+     */
+    @Transactional
+    public boolean revokeToken(String tokenId, Instant expiresAt) {
+        if (revokedTokens.containsKey(tokenId)) {
+            return false;
+        }
+        boolean inserted = revokedTokenRepository.insertIfAbsent(tokenId, RevokedToken.Kind.TOKEN.name(), toUtc(expiresAt)) > 0;
+        if (inserted) {
+            cacheInvalidationLog.append(CacheInvalidation.Kind.REVOKED_TOKEN, null, tokenId);
+        }
+        afterCommit(() -> revokedTokens.putIfAbsent(tokenId, expiresAt));
+        return inserted;
+    }
+
+    /**
+     * 토큰 family 전체 폐기 (리프레쉬 토큰 재사용 감지 시)
+     */
+    @Transactional
+    public void revokeFamily(String familyId, Instant expiresAt) {
+        if (revokedFamilies.containsKey(familyId)) {
+            return;
+        }
+        if (revokedTokenRepository.insertIfAbsent(familyId, RevokedToken.Kind.FAMILY.name(), toUtc(expiresAt)) > 0) {
+            cacheInvalidationLog.append(CacheInvalidation.Kind.REVOKED_TOKEN, null, familyId);
+        }
+        afterCommit(() -> revokedFamilies.putIfAbsent(familyId, expiresAt));
+    }
+
+    @EventListener
+    public void onRemoteInvalidation(CacheInvalidatedEvent event) {
+        if (event.isAll()) {
+            load();
+        } else if (event.getKind() == CacheInvalidation.Kind.REVOKED_TOKEN) {
+            primaryTransaction.execute(status -> revokedTokenRepository.findById(event.getEntityKey())).ifPresent(revoked ->
+                    mapFor(revoked.getKind()).put(revoked.getId(), revoked.getExpiresAt().toInstant(ZoneOffset.UTC)));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.revocation-cleanup-interval:PT5M}")
+    @Transactional
+    public void evictExpired() {
+        Instant now = Instant.now();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+        revokedFamilies.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+        revokedTokenRepository.deleteExpired(toUtc(now));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static LocalDateTime toUtc(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    private Map<String, Instant> mapFor(RevokedToken.Kind kind) {
+        return kind == RevokedToken.Kind.FAMILY ? revokedFamilies : revokedTokens;
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.calendar_backend.serialization;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.example.calendar_backend.dto.ScheduleDTO;
+import org.example.calendar_backend.dto.UserDTO;
+
+import java.time.ZoneId;
+
+/**
+ * 목록 응답에 자주 쓰이는 DTO 의 직접 작성한 직렬화기를 등록하는 Jackson 모듈
+ */
+public class CompactDtoModule extends SimpleModule {
+
+    public CompactDtoModule(ZoneId storageZone) {
+        super("CompactDtoModule");
+        addSerializer(ScheduleDTO.class, new ScheduleDTOSerializer(storageZone));
+        addSerializer(UserDTO.class, new UserDTOSerializer());
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.calendar_backend.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.example.calendar_backend.dto.ScheduleDTO;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * ScheduleDTO 직접 직렬화 (리플렉션/BeanSerializer 없이 필드 순서대로 기록, 필드 이름은 미리 인코딩).
+ * JSON 은 기존과 같은 ISO 문자열, CBOR 같은 바이너리 포맷은 epoch millis 로 시각을 기록한다.
+ */
+public class ScheduleDTOSerializer extends StdSerializer<ScheduleDTO> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString START_TIME = new SerializedString("startTime");
+    private static final SerializableString END_TIME = new SerializedString("endTime");
+    private static final SerializableString IS_PUBLIC = new SerializedString("isPublic");
+    private static final SerializableString VERSION = new SerializedString("version");
+
+    private final ZoneId storageZone;
+
+    public ScheduleDTOSerializer(ZoneId storageZone) {
+        super(ScheduleDTO.class);
+        this.storageZone = storageZone;
+    }
+
+    @Override
+    public void serialize(ScheduleDTO schedule, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        boolean binary = gen.canWriteBinaryNatively();
+        gen.writeStartObject(schedule, schedule.getVersion() == null ? 6 : 7);
+        gen.writeFieldName(ID);
+        writeLong(gen, schedule.getId());
+        gen.writeFieldName(TITLE);
+        gen.writeString(schedule.getTitle());
+        gen.writeFieldName(DESCRIPTION);
+        gen.writeString(schedule.getDescription());
+        gen.writeFieldName(START_TIME);
+        writeDateTime(gen, schedule.getStartTime(), binary);
+        gen.writeFieldName(END_TIME);
+        writeDateTime(gen, schedule.getEndTime(), binary);
+        gen.writeFieldName(IS_PUBLIC);
+        if (schedule.getIsPublic() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeBoolean(schedule.getIsPublic());
+        }
+        if (schedule.getVersion() != null) {   // @JsonInclude(NON_NULL) 과 동일
+            gen.writeFieldName(VERSION);
+            gen.writeNumber(schedule.getVersion());
+        }
+        gen.writeEndObject();
+    }
+
+    private void writeDateTime(JsonGenerator gen, LocalDateTime value, boolean binary) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else if (binary) {
+            gen.writeNumber(value.atZone(storageZone).toInstant().toEpochMilli());
+        } else {
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+        }
+    }
+
+    static void writeLong(JsonGenerator gen, Long value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+}
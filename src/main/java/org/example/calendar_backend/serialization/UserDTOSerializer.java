@@ -0,0 +1,36 @@
+package org.example.calendar_backend.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.example.calendar_backend.dto.UserDTO;
+
+import java.io.IOException;
+
+/**
+ * UserDTO 직접 직렬화 (리플렉션 없이 필드 순서대로 기록)
+ */
+public class UserDTOSerializer extends StdSerializer<UserDTO> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString EMAIL = new SerializedString("email");
+    private static final SerializableString NICKNAME = new SerializedString("nickname");
+
+    public UserDTOSerializer() {
+        super(UserDTO.class);
+    }
+
+    @Override
+    public void serialize(UserDTO user, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(user, 3);
+        gen.writeFieldName(ID);
+        ScheduleDTOSerializer.writeLong(gen, user.getId());
+        gen.writeFieldName(EMAIL);
+        gen.writeString(user.getEmail());
+        gen.writeFieldName(NICKNAME);
+        gen.writeString(user.getNickname());
+        gen.writeEndObject();
+    }
+}
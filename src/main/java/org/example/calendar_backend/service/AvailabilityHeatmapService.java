@@ -0,0 +1,153 @@
+package org.example.calendar_backend.service;
+
+import org.example.calendar_backend.cache.HeatmapCacheProperties;
+import org.example.calendar_backend.cache.ScheduleVersions;
+import org.example.calendar_backend.cache.VersionedCache;
+import org.example.calendar_backend.dto.AvailabilityHeatmapDTO;
+import org.example.calendar_backend.entity.FriendshipStatus;
+import org.example.calendar_backend.entity.User;
+import org.example.calendar_backend.exception.InvalidOperationException;
+import org.example.calendar_backend.exception.ResourceNotFoundException;
+import org.example.calendar_backend.heatmap.BitSlicedCounter;
+import org.example.calendar_backend.heatmap.SlotBitset;
+import org.example.calendar_backend.repository.FriendshipRepository;
+import org.example.calendar_backend.repository.ScheduleRepository;
+import org.example.calendar_backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+@Service
+public class AvailabilityHeatmapService {
+
+    private static final int SLOT_MINUTES = 15;
+    private static final long SLOT_MILLIS = Duration.ofMinutes(SLOT_MINUTES).toMillis();
+    private static final int MAX_DAYS = 31;
+    private static final int MAX_FRIENDS = 50;
+
+    private final ScheduleRepository scheduleRepository;
+    private final UserRepository userRepository;
+    private final FriendshipRepository friendshipRepository;
+    private final ScheduleVersions scheduleVersions;
+    private final ZoneId storageZone;
+    private final VersionedCache<HeatmapKey, AvailabilityHeatmapDTO> cache;
+
+    public AvailabilityHeatmapService(ScheduleRepository scheduleRepository,
+                                      UserRepository userRepository,
+                                      FriendshipRepository friendshipRepository,
+                                      ScheduleVersions scheduleVersions,
+                                      HeatmapCacheProperties cacheProperties,
+                                      @Value("${app.calendar.storage-zone:UTC}") String storageZone) {
+        this.scheduleRepository = scheduleRepository;
+        this.userRepository = userRepository;
+        this.friendshipRepository = friendshipRepository;
+        this.scheduleVersions = scheduleVersions;
+        this.storageZone = ZoneId.of(storageZone);
+        this.cache = new VersionedCache<>(cacheProperties.getMaxEntries());
+    }
+
+    /**
+     * 친구들(수락된 친구 관계)의 15분 칸별 바쁜 인원 수. 친구는 공개 일정과 나에게 공유된 일정만, 본인(includeMe)은 전체 일정을 반영한다.
+     */
+    @Transactional(readOnly = true)
+    public AvailabilityHeatmapDTO getHeatmap(List<String> friendEmails, LocalDate startDate, int days,
+                                             String timeZone, boolean includeMe) {
+        if (days < 1 || days > MAX_DAYS) {
+            throw new InvalidOperationException("조회 기간은 1일 이상 " + MAX_DAYS + "일 이하여야 합니다.");
+        }
+        Set<String> emails = new HashSet<>(friendEmails);
+        if (emails.size() > MAX_FRIENDS) {
+            throw new InvalidOperationException("친구는 최대 " + MAX_FRIENDS + "명까지 조회할 수 있습니다.");
+        }
+        ZoneId zone = parseZone(timeZone);
+
+        // 현재 로그인된 사용자 이메일을 가져옴
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String currentUserEmail = authentication.getName();
+
+        // User 존재 여부 확인
+        User user = userRepository.findByEmail(currentUserEmail)
+                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다. email: " + currentUserEmail));
+        emails.remove(currentUserEmail);
+
+        // 친구 존재 여부와 수락된 친구 관계인지 확인
+        Map<String, User> friends = new HashMap<>();
+        userRepository.findByEmailIn(emails).forEach(friend -> friends.put(friend.getEmail(), friend));
+        Set<Long> acceptedFriendIds = new HashSet<>(friendshipRepository.findFriendIds(user.getId(), FriendshipStatus.ACCEPTED));
+        Set<Long> memberIds = new TreeSet<>();
+        for (String email : emails) {
+            User friend = friends.get(email);
+            if (friend == null) {
+                throw new ResourceNotFoundException("친구를 찾을 수 없습니다. email: " + email);
+            }
+            if (!acceptedFriendIds.contains(friend.getId())) {
+                throw new InvalidOperationException("친구가 아닙니다. email: " + email);
+            }
+            memberIds.add(friend.getId());
+        }
+        if (includeMe) {
+            memberIds.add(user.getId());
+        }
+
+        // 캐시 스탬프: 대상 사용자들의 일정 버전 (로딩 전에 계산)
+        List<Long> members = List.copyOf(memberIds);
+        List<Long> versions = members.stream().map(scheduleVersions::current).toList();
+        HeatmapKey key = new HeatmapKey(user.getId(), members, startDate, days, zone);
+        return cache.get(key, versions, () -> loadHeatmap(user.getId(), members, startDate, days, zone));
+    }
+
+    private AvailabilityHeatmapDTO loadHeatmap(Long viewerId, List<Long> members, LocalDate startDate, int days, ZoneId zone) {
+        Instant rangeStart = startDate.atStartOfDay(zone).toInstant();
+        Instant rangeEnd = startDate.plusDays(days).atStartOfDay(zone).toInstant();
+        int slots = (int) ceilDiv(Duration.between(rangeStart, rangeEnd).toMillis(), SLOT_MILLIS);
+
+        // 사용자별로 일정 구간을 비트셋에 칠한 뒤, 비트 단위 덧셈으로 칸별 인원 수를 구함
+        Map<Long, SlotBitset> busy = new HashMap<>();
+        BitSlicedCounter counter = new BitSlicedCounter(slots);
+        if (!members.isEmpty()) {
+            List<Object[]> intervals = scheduleRepository.findBusyIntervals(members, viewerId,
+                    LocalDateTime.ofInstant(rangeStart, storageZone), LocalDateTime.ofInstant(rangeEnd, storageZone));
+            for (Object[] row : intervals) {
+                long startMillis = Duration.between(rangeStart, ((LocalDateTime) row[1]).atZone(storageZone).toInstant()).toMillis();
+                long endMillis = Duration.between(rangeStart, ((LocalDateTime) row[2]).atZone(storageZone).toInstant()).toMillis();
+                busy.computeIfAbsent((Long) row[0], id -> new SlotBitset(slots))
+                        .setRange((int) Math.max(Math.floorDiv(startMillis, SLOT_MILLIS), 0),
+                                (int) Math.min(ceilDiv(endMillis, SLOT_MILLIS), slots));
+            }
+        }
+        busy.values().forEach(counter::add);
+
+        return new AvailabilityHeatmapDTO(startDate, startDate.plusDays(days), zone.getId(),
+                rangeStart.atZone(zone).toOffsetDateTime(), SLOT_MINUTES, members.size(), counter.counts());
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return -Math.floorDiv(-value, divisor);
+    }
+
+    private ZoneId parseZone(String timeZone) {
+        try {
+            return ZoneId.of(timeZone);
+        } catch (DateTimeException ex) {
+            throw new InvalidOperationException("올바르지 않은 시간대입니다: " + timeZone);
+        }
+    }
+
+    private record HeatmapKey(Long viewerId, List<Long> members, LocalDate startDate, int days, ZoneId zone) {
+    }
+}
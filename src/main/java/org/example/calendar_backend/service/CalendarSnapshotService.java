@@ -0,0 +1,204 @@
+package org.example.calendar_backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.calendar_backend.dto.ScheduleDTO;
+import org.example.calendar_backend.entity.CacheInvalidation;
+import org.example.calendar_backend.event.CacheInvalidatedEvent;
+import org.example.calendar_backend.event.ScheduleChangedEvent;
+import org.example.calendar_backend.event.SchedulesArchivedEvent;
+import org.example.calendar_backend.repository.ScheduleRepository;
+import org.example.calendar_backend.security.UserPrincipal;
+import org.example.calendar_backend.snapshot.CalendarSnapshotProperties;
+import org.example.calendar_backend.snapshot.CalendarSnapshotStore;
+import org.example.calendar_backend.snapshot.CalendarSnapshotStore.SnapshotKey;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 월별 일정 스냅샷.
+ * (사용자, 월) 별로 일정 목록을 JSON 으로 미리 직렬화해 두고, 조회 시에는 엔티티 로딩/직렬화 없이 바이트 배열을 그대로 응답한다.
+ * 일정이 바뀌면 커밋 후 그 일정이 걸친 월의 스냅샷만 지우고 백그라운드에서 다시 만든다(다시 만들기 전 조회는 직접 생성).
+ * 스냅샷은 복제 지연의 영향을 받지 않도록 primary 에서 읽어 만든다.
+ */
+@Slf4j
+@Service
+public class CalendarSnapshotService {
+
+    private static final TypeReference<List<ScheduleDTO>> SCHEDULE_LIST = new TypeReference<>() {
+    };
+
+    private final ScheduleRepository scheduleRepository;
+    private final CalendarSnapshotProperties properties;
+    private final CalendarSnapshotStore store;
+    private final ObjectWriter writer;
+    private final TransactionTemplate primaryTransaction;
+    private final ThreadPoolExecutor rebuildExecutor;
+    private final Set<SnapshotKey> pendingRebuilds = ConcurrentHashMap.newKeySet();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter rebuildCounter;
+
+    public CalendarSnapshotService(ScheduleRepository scheduleRepository,
+                                   CalendarSnapshotProperties properties,
+                                   ObjectMapper objectMapper,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry) {
+        this.scheduleRepository = scheduleRepository;
+        this.properties = properties;
+        this.store = new CalendarSnapshotStore(properties.getMaxSize().toBytes());
+        this.writer = objectMapper.writerFor(SCHEDULE_LIST);
+        // readOnly 가 아닌 트랜잭션은 라우팅 데이터소스에서 primary 로 감
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.rebuildExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getRebuildQueueCapacity()), runnable -> {
+            Thread thread = new Thread(runnable, "calendar-snapshot-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.hitCounter = Counter.builder("calendar.snapshots.requests").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("calendar.snapshots.requests").tag("result", "miss").register(meterRegistry);
+        this.rebuildCounter = Counter.builder("calendar.snapshots.rebuilds").register(meterRegistry);
+        Gauge.builder("calendar.snapshots.bytes", store, CalendarSnapshotStore::totalBytes).register(meterRegistry);
+        Gauge.builder("calendar.snapshots.entries", store, CalendarSnapshotStore::size).register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * 로그인한 사용자의 월(저장 시간대 기준) 일정 목록 JSON. 반환된 배열은 공유되므로 수정하면 안 된다.
+     */
+    public byte[] getMonthSchedules(YearMonth month) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Long userId = ((UserPrincipal) authentication.getPrincipal()).getId();
+        if (!properties.isEnabled()) {
+            return load(userId, month);
+        }
+
+        SnapshotKey key = new SnapshotKey(userId, month);
+        byte[] body = store.get(key);
+        if (body != null) {
+            hitCounter.increment();
+            return body;
+        }
+        missCounter.increment();
+        return build(key);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        // 조건부 수정은 변경 전 일정을 모르므로 해당 사용자의 모든 월을 다시 만듦
+        boolean unknownBefore = event.getType() == ScheduleChangedEvent.Type.UPDATED && event.getBefore() == null;
+        for (YearMonth month : store.months(event.getOwnerId())) {
+            if (unknownBefore || overlaps(event.getBefore(), month) || overlaps(event.getAfter(), month)) {
+                SnapshotKey key = new SnapshotKey(event.getOwnerId(), month);
+                if (store.invalidate(key)) {
+                    scheduleRebuild(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * 보관된 일정은 월별 목록에서 빠지므로 해당 사용자의 스냅샷을 지움 (오래된 월이므로 다시 만들지는 않음)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSchedulesArchived(SchedulesArchivedEvent event) {
+        event.getOwnerIds().forEach(this::invalidateAll);
+    }
+
+    /**
+     * 다른 노드의 일정 변경은 어느 월인지 모르므로 해당 사용자의 스냅샷을 모두 지움
+     */
+    @EventListener
+    public void onRemoteInvalidation(CacheInvalidatedEvent event) {
+        if (event.isAll()) {
+            store.clear();
+        } else if (event.getKind() == CacheInvalidation.Kind.SCHEDULE
+                || event.getKind() == CacheInvalidation.Kind.SCHEDULES_ARCHIVED) {
+            invalidateAll(event.getOwnerId());
+        }
+    }
+
+    private void invalidateAll(Long ownerId) {
+        store.months(ownerId).forEach(month -> store.invalidate(new SnapshotKey(ownerId, month)));
+    }
+
+    private void scheduleRebuild(SnapshotKey key) {
+        if (!pendingRebuilds.add(key)) {
+            return;
+        }
+        try {
+            rebuildExecutor.execute(() -> {
+                pendingRebuilds.remove(key);
+                try {
+                    build(key);
+                    rebuildCounter.increment();
+                } catch (RuntimeException ex) {
+                    log.warn("Rebuilding calendar snapshot {} failed", key, ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            // 대기열이 가득 차면 다음 조회 때 직접 생성
+            pendingRebuilds.remove(key);
+        }
+    }
+
+    private byte[] build(SnapshotKey key) {
+        long token = store.beginBuild(key);
+        byte[] body = load(key.userId(), key.month());
+        store.completeBuild(key, token, body);
+        return body;
+    }
+
+    private byte[] load(Long userId, YearMonth month) {
+        LocalDateTime from = month.atDay(1).atStartOfDay();
+        LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+        List<ScheduleDTO> schedules = primaryTransaction.execute(status -> scheduleRepository.findOverlapping(userId, from, to)
+                .stream()
+                .map(schedule -> new ScheduleDTO(schedule.getId(), schedule.getTitle(), schedule.getDescription(),
+                        schedule.getStartTime(), schedule.getEndTime(), schedule.isPublic(), schedule.getVersion()))
+                .toList());
+        try {
+            return writer.writeValueAsBytes(schedules);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Serializing calendar snapshot failed", ex);
+        }
+    }
+
+    /**
+     * findOverlapping 과 같은 조건 (start < 월 끝, end > 월 시작)
+     */
+    private static boolean overlaps(ScheduleDTO schedule, YearMonth month) {
+        if (schedule == null || schedule.getStartTime() == null || schedule.getEndTime() == null) {
+            return false;
+        }
+        return schedule.getStartTime().isBefore(month.plusMonths(1).atDay(1).atStartOfDay())
+                && schedule.getEndTime().isAfter(month.atDay(1).atStartOfDay());
+    }
+}
@@ -0,0 +1,181 @@
+package org.example.calendar_backend.service;
+
+import org.example.calendar_backend.cache.CalendarSummaryCacheProperties;
+import org.example.calendar_backend.cache.ScheduleVersions;
+import org.example.calendar_backend.cache.VersionedCache;
+import org.example.calendar_backend.dto.CalendarSummaryDTO;
+import org.example.calendar_backend.dto.DaySummaryDTO;
+import org.example.calendar_backend.dto.EventPreviewDTO;
+import org.example.calendar_backend.entity.User;
+import org.example.calendar_backend.exception.InvalidOperationException;
+import org.example.calendar_backend.exception.ResourceNotFoundException;
+import org.example.calendar_backend.repository.ScheduleRepository;
+import org.example.calendar_backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+public class CalendarSummaryService {
+
+    private static final int MAX_TOP = 10;
+
+    private final ScheduleRepository scheduleRepository;
+    private final UserRepository userRepository;
+    private final ScheduleVersions scheduleVersions;
+    private final ZoneId storageZone;
+    private final VersionedCache<SummaryKey, CalendarSummaryDTO> cache;
+
+    public CalendarSummaryService(ScheduleRepository scheduleRepository,
+                                  UserRepository userRepository,
+                                  ScheduleVersions scheduleVersions,
+                                  CalendarSummaryCacheProperties cacheProperties,
+                                  @Value("${app.calendar.storage-zone:UTC}") String storageZone) {
+        this.scheduleRepository = scheduleRepository;
+        this.userRepository = userRepository;
+        this.scheduleVersions = scheduleVersions;
+        this.storageZone = ZoneId.of(storageZone);
+        this.cache = new VersionedCache<>(cacheProperties.getMaxEntries());
+    }
+
+    /**
+     * 월간 요약 (날짜별 일정 수 + 상위 N개 일정)
+     */
+    @Transactional(readOnly = true)
+    public CalendarSummaryDTO getMonthSummary(YearMonth month, String timeZone, int top) {
+        return getSummary(month.atDay(1), month.lengthOfMonth(), timeZone, top);
+    }
+
+    /**
+     * 주간 요약 (startDate 부터 7일)
+     */
+    @Transactional(readOnly = true)
+    public CalendarSummaryDTO getWeekSummary(LocalDate startDate, String timeZone, int top) {
+        return getSummary(startDate, 7, timeZone, top);
+    }
+
+    private CalendarSummaryDTO getSummary(LocalDate startDate, int days, String timeZone, int top) {
+        ZoneId zone = parseZone(timeZone);
+        int limit = Math.min(Math.max(top, 0), MAX_TOP);
+
+        // 현재 로그인된 사용자 이메일을 가져옴
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String currentUserEmail = authentication.getName();
+
+        // User 존재 여부 확인
+        User user = userRepository.findByEmail(currentUserEmail)
+                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다. email: " + currentUserEmail));
+
+        SummaryKey key = new SummaryKey(user.getId(), startDate, days, zone, limit);
+        long version = scheduleVersions.current(user.getId());
+        return cache.get(key, version, () -> loadSummary(user.getId(), startDate, days, zone, limit));
+    }
+
+    private CalendarSummaryDTO loadSummary(Long userId, LocalDate startDate, int days, ZoneId zone, int limit) {
+        Map<LocalDate, Long> counts = new TreeMap<>();
+        Map<LocalDate, List<EventPreviewDTO>> events = new TreeMap<>();
+
+        // 기간 내 UTC 오프셋이 바뀌면(서머타임) 오프셋이 같은 구간별로 나누어 집계
+        for (Segment segment : segments(startDate.atStartOfDay(zone), startDate.plusDays(days).atStartOfDay(zone))) {
+            for (Object[] row : scheduleRepository.countByDay(userId, segment.from(), segment.to(), segment.shiftMinutes())) {
+                counts.merge(toLocalDate(row[0]), ((Number) row[1]).longValue(), Long::sum);
+            }
+            if (limit > 0) {
+                for (Object[] row : scheduleRepository.findTopByDay(userId, segment.from(), segment.to(), segment.shiftMinutes(), limit)) {
+                    List<EventPreviewDTO> dayEvents = events.computeIfAbsent(toLocalDate(row[5]), d -> new ArrayList<>());
+                    if (dayEvents.size() < limit) {
+                        dayEvents.add(new EventPreviewDTO(((Number) row[0]).longValue(), (String) row[1],
+                                toLocalDateTime(row[2]), toLocalDateTime(row[3]), toBoolean(row[4])));
+                    }
+                }
+            }
+        }
+
+        List<DaySummaryDTO> summaries = new ArrayList<>();
+        counts.forEach((date, count) -> summaries.add(new DaySummaryDTO(date, count, events.getOrDefault(date, List.of()))));
+        return new CalendarSummaryDTO(startDate, startDate.plusDays(days), zone.getId(), summaries);
+    }
+
+    /**
+     * 사용자 시간대 기준 [from, to) 를 오프셋이 일정한 구간들로 나누고, 저장 시간대 기준 시각으로 변환
+     */
+    private List<Segment> segments(ZonedDateTime from, ZonedDateTime to) {
+        List<Segment> segments = new ArrayList<>();
+        Instant cursor = from.toInstant();
+        Instant end = to.toInstant();
+        while (cursor.isBefore(end)) {
+            ZoneOffsetTransition next = from.getZone().getRules().nextTransition(cursor);
+            Instant segmentEnd = next == null || !next.getInstant().isBefore(end) ? end : next.getInstant();
+
+            int userOffset = from.getZone().getRules().getOffset(cursor).getTotalSeconds();
+            int storageOffset = storageZone.getRules().getOffset(cursor).getTotalSeconds();
+            segments.add(new Segment(LocalDateTime.ofInstant(cursor, storageZone), LocalDateTime.ofInstant(segmentEnd, storageZone),
+                    (userOffset - storageOffset) / 60));
+            cursor = segmentEnd;
+        }
+        return segments;
+    }
+
+    private ZoneId parseZone(String timeZone) {
+        try {
+            return ZoneId.of(timeZone);
+        } catch (DateTimeException ex) {
+            throw new InvalidOperationException("올바르지 않은 시간대입니다: " + timeZone);
+        }
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof LocalDate localDate) {
+            return localDate;
+        }
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate();
+        }
+        return LocalDate.parse(value.toString());
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof LocalDateTime localDateTime) {
+            return localDateTime;
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return LocalDateTime.parse(value.toString().replace(' ', 'T'));
+    }
+
+    private static Boolean toBoolean(Object value) {
+        if (value instanceof Boolean bool) {
+            return bool;
+        }
+        if (value instanceof Number number) {
+            return number.intValue() != 0;
+        }
+        if (value instanceof byte[] bytes) {
+            return bytes.length > 0 && bytes[0] != 0;
+        }
+        return Boolean.parseBoolean(value.toString());
+    }
+
+    private record Segment(LocalDateTime from, LocalDateTime to, int shiftMinutes) {
+    }
+
+    private record SummaryKey(Long userId, LocalDate startDate, int days, ZoneId zone, int limit) {
+    }
+}
@@ -0,0 +1,163 @@
+package org.example.calendar_backend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.calendar_backend.dto.FriendGroupDTO;
+import org.example.calendar_backend.entity.FriendGroup;
+import org.example.calendar_backend.entity.FriendGroupMember;
+import org.example.calendar_backend.entity.FriendshipStatus;
+import org.example.calendar_backend.entity.User;
+import org.example.calendar_backend.event.ScheduleSharingChangedEvent;
+import org.example.calendar_backend.exception.InvalidOperationException;
+import org.example.calendar_backend.exception.ResourceNotFoundException;
+import org.example.calendar_backend.repository.FriendGroupMemberRepository;
+import org.example.calendar_backend.repository.FriendGroupRepository;
+import org.example.calendar_backend.repository.FriendshipRepository;
+import org.example.calendar_backend.repository.ScheduleShareRepository;
+import org.example.calendar_backend.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class FriendGroupService {
+
+    private static final int MAX_MEMBERS = 500;
+
+    private final FriendGroupRepository friendGroupRepository;
+    private final FriendGroupMemberRepository friendGroupMemberRepository;
+    private final ScheduleShareRepository scheduleShareRepository;
+    private final FriendshipRepository friendshipRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 친구 그룹 생성 (구성원은 수락된 친구만 가능)
+     */
+    @Transactional
+    public FriendGroupDTO createGroup(FriendGroupDTO groupDTO) {
+        User owner = getCurrentUser();
+        if (groupDTO.getName() == null || groupDTO.getName().isBlank()) {
+            throw new InvalidOperationException("그룹 이름을 입력해야 합니다.");
+        }
+        String name = groupDTO.getName().trim();
+        if (friendGroupRepository.existsByOwnerAndName(owner, name)) {
+            throw new InvalidOperationException("이미 같은 이름의 그룹이 있습니다: " + name);
+        }
+        List<User> members = resolveFriends(owner, groupDTO.getMemberEmails());
+
+        FriendGroup group = friendGroupRepository.save(FriendGroup.builder().owner(owner).name(name).build());
+        saveMembers(group, members);
+        return new FriendGroupDTO(group.getId(), group.getName(), members.stream().map(User::getEmail).toList());
+    }
+
+    /**
+     * 내 친구 그룹 목록 조회
+     */
+    @Transactional(readOnly = true)
+    public List<FriendGroupDTO> getGroups() {
+        User owner = getCurrentUser();
+
+        Map<Long, List<String>> membersByGroup = new HashMap<>();
+        for (Object[] row : friendGroupMemberRepository.findMemberEmailsByOwner(owner.getId())) {
+            membersByGroup.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        return friendGroupRepository.findByOwnerOrderByIdAsc(owner).stream()
+                .map(group -> new FriendGroupDTO(group.getId(), group.getName(),
+                        membersByGroup.getOrDefault(group.getId(), List.of())))
+                .toList();
+    }
+
+    /**
+     * 그룹 구성원 교체
+     */
+    @Transactional
+    public FriendGroupDTO replaceMembers(Long groupId, List<String> memberEmails) {
+        User owner = getCurrentUser();
+        FriendGroup group = getOwnGroup(owner, groupId);
+        List<User> members = resolveFriends(owner, memberEmails);
+
+        friendGroupMemberRepository.deleteByGroupId(group.getId());
+        saveMembers(group, members);
+
+        // 그룹에 공유된 일정을 볼 수 있는 사람이 바뀜
+        eventPublisher.publishEvent(new ScheduleSharingChangedEvent(owner.getId()));
+        return new FriendGroupDTO(group.getId(), group.getName(), members.stream().map(User::getEmail).toList());
+    }
+
+    /**
+     * 그룹 삭제 (그룹 대상 일정 공유도 함께 삭제)
+     */
+    @Transactional
+    public void deleteGroup(Long groupId) {
+        User owner = getCurrentUser();
+        FriendGroup group = getOwnGroup(owner, groupId);
+
+        scheduleShareRepository.deleteByGroupId(group.getId());
+        friendGroupMemberRepository.deleteByGroupId(group.getId());
+        friendGroupRepository.delete(group);
+
+        eventPublisher.publishEvent(new ScheduleSharingChangedEvent(owner.getId()));
+    }
+
+    /**
+     * 이메일 목록을 사용자로 변환하고, 모두 owner 의 수락된 친구인지 확인
+     */
+    List<User> resolveFriends(User owner, List<String> emails) {
+        if (emails == null || emails.isEmpty()) {
+            return List.of();
+        }
+        Set<String> distinct = new HashSet<>(emails);
+        if (distinct.size() > MAX_MEMBERS) {
+            throw new InvalidOperationException("최대 " + MAX_MEMBERS + "명까지 지정할 수 있습니다.");
+        }
+
+        Map<String, User> users = new HashMap<>();
+        userRepository.findByEmailIn(distinct).forEach(user -> users.put(user.getEmail(), user));
+        Set<Long> acceptedFriendIds = new HashSet<>(friendshipRepository.findFriendIds(owner.getId(), FriendshipStatus.ACCEPTED));
+
+        List<User> friends = new ArrayList<>();
+        for (String email : distinct) {
+            User friend = users.get(email);
+            if (friend == null) {
+                throw new ResourceNotFoundException("친구를 찾을 수 없습니다. email: " + email);
+            }
+            if (!acceptedFriendIds.contains(friend.getId())) {
+                throw new InvalidOperationException("친구가 아닙니다. email: " + email);
+            }
+            friends.add(friend);
+        }
+        return friends;
+    }
+
+    private void saveMembers(FriendGroup group, List<User> members) {
+        friendGroupMemberRepository.saveAll(members.stream()
+                .map(member -> FriendGroupMember.builder().friendGroup(group).member(member).build())
+                .toList());
+    }
+
+    private FriendGroup getOwnGroup(User owner, Long groupId) {
+        FriendGroup group = friendGroupRepository.findById(groupId)
+                .orElseThrow(() -> new ResourceNotFoundException("친구 그룹을 찾을 수 없습니다. id: " + groupId));
+        if (!group.getOwner().getId().equals(owner.getId())) {
+            throw new InvalidOperationException("본인의 친구 그룹만 수정할 수 있습니다.");
+        }
+        return group;
+    }
+
+    private User getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String currentUserEmail = authentication.getName();
+        return userRepository.findByEmail(currentUserEmail)
+                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다. email: " + currentUserEmail));
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.calendar_backend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.calendar_backend.dto.ScheduleDTO;
+import org.example.calendar_backend.entity.FriendshipStatus;
+import org.example.calendar_backend.entity.User;
+import org.example.calendar_backend.exception.ResourceNotFoundException;
+import org.example.calendar_backend.repository.FriendshipRepository;
+import org.example.calendar_backend.repository.ScheduleRepository;
+import org.example.calendar_backend.repository.UserRepository;
+import org.example.calendar_backend.search.ScheduleSearchIndex;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class ScheduleSearchService {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final ScheduleSearchIndex scheduleSearchIndex;
+    private final UserRepository userRepository;
+    private final FriendshipRepository friendshipRepository;
+    private final ScheduleRepository scheduleRepository;
+
+    /**
+     * 일정 검색: 내 일정 전체 + 친구(수락된 친구 관계)의 공개 일정과 나에게 공유된 일정
+     */
+    @Transactional(readOnly = true)
+    public List<ScheduleDTO> searchSchedules(String keyword, int limit) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String currentUserEmail = authentication.getName();
+
+        // User 존재 여부 확인
+        User user = userRepository.findByEmail(currentUserEmail)
+                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다. email: " + currentUserEmail));
+
+        Long userId = user.getId();
+        Set<Long> friendIds = new HashSet<>(friendshipRepository.findFriendIds(userId, FriendshipStatus.ACCEPTED));
+        // 친구 일정 조회/히트맵과 같은 기준(SHARED_WITH_VIEWER)으로 공유된 비공개 일정도 포함
+        Set<Long> sharedIds = friendIds.isEmpty() ? Set.of()
+                : new HashSet<>(scheduleRepository.findIdsSharedWith(friendIds, userId));
+
+        return scheduleSearchIndex.search(keyword,
+                document -> document.ownerId().equals(userId)
+                        || (friendIds.contains(document.ownerId())
+                        && (document.isPublic() || sharedIds.contains(document.schedule().getId()))),
+                Math.min(Math.max(limit, 1), MAX_LIMIT));
+    }
+}
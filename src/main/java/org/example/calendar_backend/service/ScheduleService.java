@@ -1,21 +1,41 @@
 package org.example.calendar_backend.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.calendar_backend.cache.PublicScheduleCache;
 import org.example.calendar_backend.dto.ScheduleDTO;
-import org.example.calendar_backend.entity.Friendship;
+import org.example.calendar_backend.dto.ScheduleShareDTO;
+import org.example.calendar_backend.entity.ArchivedSchedule;
+import org.example.calendar_backend.entity.FriendGroup;
+import org.example.calendar_backend.entity.FriendshipStatus;
 import org.example.calendar_backend.entity.Schedule;
+import org.example.calendar_backend.entity.ScheduleShare;
 import org.example.calendar_backend.entity.User;
+import org.example.calendar_backend.event.ScheduleChangedEvent;
+import org.example.calendar_backend.event.ScheduleSharingChangedEvent;
+import org.example.calendar_backend.exception.ForbiddenException;
 import org.example.calendar_backend.exception.InvalidOperationException;
+import org.example.calendar_backend.exception.PreconditionFailedException;
 import org.example.calendar_backend.exception.ResourceNotFoundException;
+import org.example.calendar_backend.repository.ArchivedScheduleRepository;
+import org.example.calendar_backend.repository.FriendGroupRepository;
 import org.example.calendar_backend.repository.FriendshipRepository;
 import org.example.calendar_backend.repository.ScheduleRepository;
+import org.example.calendar_backend.repository.ScheduleShareRepository;
 import org.example.calendar_backend.repository.UserRepository;
+import org.example.calendar_backend.security.UserPrincipal;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,8 +43,14 @@ import java.util.stream.Collectors;
 public class ScheduleService {
 
     private final ScheduleRepository scheduleRepository;
+    private final ArchivedScheduleRepository archivedScheduleRepository;
     private final UserRepository userRepository;
     private final FriendshipRepository friendshipRepository;
+    private final ScheduleShareRepository scheduleShareRepository;
+    private final FriendGroupRepository friendGroupRepository;
+    private final FriendGroupService friendGroupService;
+    private final PublicScheduleCache publicScheduleCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 로그인된 사용자의 이메일을 가져오는 메서드
@@ -34,6 +60,17 @@ public class ScheduleService {
         return authentication.getName(); // 현재 로그인한 사용자의 이메일
     }
 
+    /**
+     * 로그인된 사용자의 ID 를 가져오는 메서드 (JWT 인증 시 설정된 UserPrincipal 기준, 없으면 null)
+     */
+    private Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getId();
+        }
+        return null;
+    }
+
     /**
      * 일정 생성
      */
@@ -53,22 +90,34 @@ public class ScheduleService {
                 .description(scheduleDTO.getDescription())
                 .startTime(scheduleDTO.getStartTime())
                 .endTime(scheduleDTO.getEndTime())
-                .isPublic(scheduleDTO.getIsPublic())
+                .isPublic(isPublic(scheduleDTO))
                 .build();
 
         // 일정 저장
         Schedule savedSchedule = scheduleRepository.save(schedule);
 
         // 저장된 스케줄을 DTO로 변환하여 반환
-        return new ScheduleDTO(savedSchedule.getId(), savedSchedule.getTitle(), savedSchedule.getDescription(),
-                savedSchedule.getStartTime(), savedSchedule.getEndTime(), savedSchedule.isPublic());
+        ScheduleDTO created = new ScheduleDTO(savedSchedule.getId(), savedSchedule.getTitle(), savedSchedule.getDescription(),
+                savedSchedule.getStartTime(), savedSchedule.getEndTime(), savedSchedule.isPublic(), savedSchedule.getVersion());
+
+        eventPublisher.publishEvent(new ScheduleChangedEvent(ScheduleChangedEvent.Type.CREATED,
+                getCurrentUserId(), user.getId(), created.getId(), null, created));
+        return created;
     }
 
     /**
-     * 일정 리스트 조회
+     * 일정 리스트 조회 (보관되지 않은 일정만)
      */
     @Transactional(readOnly = true)
     public List<ScheduleDTO> getSchedulesByUserEmail() {
+        return getSchedulesByUserEmail(false);
+    }
+
+    /**
+     * 일정 리스트 조회 (includeArchived 가 true 면 보관된 오래된 일정도 포함)
+     */
+    @Transactional(readOnly = true)
+    public List<ScheduleDTO> getSchedulesByUserEmail(boolean includeArchived) {
         // 현재 로그인된 사용자 이메일을 가져옴
         String currentUserEmail = getCurrentUserEmail();
 
@@ -80,9 +129,17 @@ public class ScheduleService {
         List<Schedule> schedules = scheduleRepository.findByUser(user);
 
         // Schedule 엔티티를 DTO로 변환하여 반환
-        return schedules.stream().map(schedule -> new ScheduleDTO(schedule.getId(), schedule.getTitle(),
-                        schedule.getDescription(), schedule.getStartTime(), schedule.getEndTime(), schedule.isPublic()))
+        // 목록에서 바로 조건부 수정(If-Match)을 할 수 있도록 버전 포함
+        List<ScheduleDTO> result = schedules.stream().map(schedule -> new ScheduleDTO(schedule.getId(), schedule.getTitle(),
+                        schedule.getDescription(), schedule.getStartTime(), schedule.getEndTime(), schedule.isPublic(),
+                        schedule.getVersion()))
                 .collect(Collectors.toList());
+
+        // 보관된 일정은 요청한 경우에만 별도 테이블에서 조회
+        if (includeArchived) {
+            archivedScheduleRepository.findByUser(user).forEach(schedule -> result.add(toDTO(schedule)));
+        }
+        return result;
     }
 
     /**
@@ -90,13 +147,16 @@ public class ScheduleService {
      */
     @Transactional(readOnly = true)
     public ScheduleDTO getScheduleById(Long id) {
-        // 일정 존재 여부 확인
-        Schedule schedule = scheduleRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("일정을 찾을 수 없습니다. id: " + id));
+        // 일정 존재 여부 확인 (없으면 보관된 일정에서 조회, 보관된 일정은 읽기 전용)
+        Schedule schedule = scheduleRepository.findById(id).orElse(null);
+        if (schedule == null) {
+            return archivedScheduleRepository.findById(id).map(this::toDTO)
+                    .orElseThrow(() -> new ResourceNotFoundException("일정을 찾을 수 없습니다. id: " + id));
+        }
 
         // Schedule 엔티티를 DTO로 변환하여 반환
         return new ScheduleDTO(schedule.getId(), schedule.getTitle(), schedule.getDescription(),
-                schedule.getStartTime(), schedule.getEndTime(), schedule.isPublic());
+                schedule.getStartTime(), schedule.getEndTime(), schedule.isPublic(), schedule.getVersion());
     }
 
     /**
@@ -104,23 +164,68 @@ public class ScheduleService {
      */
     @Transactional
     public ScheduleDTO updateSchedule(Long id, ScheduleDTO scheduleDTO) {
-        // 일정 존재 여부 확인
-        Schedule schedule = scheduleRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("일정을 찾을 수 없습니다. id: " + id));
+        // 일정 존재 여부 및 소유자 확인
+        Schedule schedule = getOwnSchedule(id);
+
+        ScheduleDTO before = new ScheduleDTO(schedule.getId(), schedule.getTitle(), schedule.getDescription(),
+                schedule.getStartTime(), schedule.getEndTime(), schedule.isPublic());
 
         // 수정된 값으로 업데이트
         schedule.setTitle(scheduleDTO.getTitle());
         schedule.setDescription(scheduleDTO.getDescription());
         schedule.setStartTime(scheduleDTO.getStartTime());
         schedule.setEndTime(scheduleDTO.getEndTime());
-        schedule.setPublic(scheduleDTO.getIsPublic());
+        schedule.setPublic(isPublic(scheduleDTO));
 
-        // 업데이트된 스케줄 저장
-        Schedule updatedSchedule = scheduleRepository.save(schedule);
+        // 업데이트된 스케줄 저장 (flush 하여 증가된 버전을 응답에 포함)
+        // 조회 이후 다른 요청이 먼저 수정했으면 버전 충돌 → 500 대신 412 로 응답
+        Schedule updatedSchedule;
+        try {
+            updatedSchedule = scheduleRepository.saveAndFlush(schedule);
+        } catch (ObjectOptimisticLockingFailureException ex) {
+            throw new PreconditionFailedException("일정이 이미 변경되었습니다. 다시 조회한 뒤 수정해주세요.");
+        }
 
         // 수정된 스케줄을 DTO로 변환하여 반환
-        return new ScheduleDTO(updatedSchedule.getId(), updatedSchedule.getTitle(),
-                updatedSchedule.getDescription(), updatedSchedule.getStartTime(), updatedSchedule.getEndTime(), updatedSchedule.isPublic());
+        ScheduleDTO updated = new ScheduleDTO(updatedSchedule.getId(), updatedSchedule.getTitle(),
+                updatedSchedule.getDescription(), updatedSchedule.getStartTime(), updatedSchedule.getEndTime(),
+                updatedSchedule.isPublic(), updatedSchedule.getVersion());
+
+        eventPublisher.publishEvent(new ScheduleChangedEvent(ScheduleChangedEvent.Type.UPDATED,
+                getCurrentUserId(), updatedSchedule.getUser().getId(), id, before, updated));
+        return updated;
+    }
+
+    /**
+     * 조건부 일정 수정 (If-Match)
+     * 버전이 일치하는 본인 일정만 한 번의 UPDATE 로 수정하며, 사전 SELECT 를 하지 않는다.
+     * 실패한 경우에만 조회하여 원인(없음 / 권한 / 버전 불일치)을 구분한다.
+     */
+    @Transactional
+    public ScheduleDTO updateScheduleIfMatch(Long id, Long expectedVersion, ScheduleDTO scheduleDTO) {
+        Long currentUserId = getCurrentUserId();
+        boolean isPublic = isPublic(scheduleDTO);
+
+        int updatedRows = scheduleRepository.updateIfVersionMatches(id, currentUserId, expectedVersion,
+                scheduleDTO.getTitle(), scheduleDTO.getDescription(), scheduleDTO.getStartTime(), scheduleDTO.getEndTime(),
+                isPublic);
+
+        if (updatedRows == 0) {
+            Schedule schedule = scheduleRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("일정을 찾을 수 없습니다. id: " + id));
+            if (!schedule.getUser().getId().equals(currentUserId)) {
+                throw new ForbiddenException("본인의 일정만 수정할 수 있습니다.");
+            }
+            throw new PreconditionFailedException("일정이 이미 변경되었습니다. 현재 버전: " + schedule.getVersion());
+        }
+
+        ScheduleDTO updated = new ScheduleDTO(id, scheduleDTO.getTitle(), scheduleDTO.getDescription(),
+                scheduleDTO.getStartTime(), scheduleDTO.getEndTime(), isPublic, expectedVersion + 1);
+
+        // 변경 전 값은 조회하지 않으므로 before 는 null
+        eventPublisher.publishEvent(new ScheduleChangedEvent(ScheduleChangedEvent.Type.UPDATED,
+                currentUserId, currentUserId, id, null, updated));
+        return updated;
     }
 
     /**
@@ -128,16 +233,31 @@ public class ScheduleService {
      */
     @Transactional
     public void deleteSchedule(Long id) {
-        // 일정 존재 여부 확인
-        Schedule schedule = scheduleRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("일정을 찾을 수 없습니다. id: " + id));
+        // 일정 존재 여부 및 소유자 확인
+        Schedule schedule = getOwnSchedule(id);
+
+        ScheduleDTO before = new ScheduleDTO(schedule.getId(), schedule.getTitle(), schedule.getDescription(),
+                schedule.getStartTime(), schedule.getEndTime(), schedule.isPublic());
 
-        // 일정 삭제
+        // 일정 삭제 (공유 대상 먼저 삭제)
+        scheduleShareRepository.deleteByScheduleId(id);
         scheduleRepository.delete(schedule);
+
+        eventPublisher.publishEvent(new ScheduleChangedEvent(ScheduleChangedEvent.Type.DELETED,
+                getCurrentUserId(), schedule.getUser().getId(), id, before, null));
     }
 
     @Transactional(readOnly = true)
     public List<ScheduleDTO> getFriendSchedules(String friendEmail) {
+        return getFriendSchedules(friendEmail, null, null);
+    }
+
+    /**
+     * 친구 일정 조회: 공개 일정 + 나(또는 내가 속한 친구 그룹)에게 공유된 일정.
+     * from/to 가 있으면 해당 기간과 겹치는 일정만 한 번의 인덱스 조회로 가져온다.
+     */
+    @Transactional(readOnly = true)
+    public List<ScheduleDTO> getFriendSchedules(String friendEmail, LocalDateTime from, LocalDateTime to) {
         // 현재 로그인된 사용자 이메일을 가져옴
         String currentUserEmail = getCurrentUserEmail();
 
@@ -149,16 +269,112 @@ public class ScheduleService {
         User friend = userRepository.findByEmail(friendEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("친구를 찾을 수 없습니다. email: " + friendEmail));
 
-        // 친구가 수락한 친구 목록에 포함되어 있는지 확인
-        Friendship friendship = friendshipRepository.findByUserAndFriend(user, friend)
-                .orElseThrow(() -> new InvalidOperationException("친구가 아닙니다."));
+        // 친구가 수락한 친구 목록에 포함되어 있는지 확인 (대기 중이거나 거절된 요청은 친구가 아님)
+        friendshipRepository.findByUserAndFriend(user, friend)
+                .filter(friendship -> friendship.getStatus() == FriendshipStatus.ACCEPTED)
+                .orElseThrow(() -> new ForbiddenException("친구가 아닙니다."));
 
-        // 친구의 일정 조회 (공개된 일정만 조회)
-        List<Schedule> schedules = scheduleRepository.findByUserAndIsPublic(friend, true); // 수정된 부분
+        List<Long> ownerIds = List.of(friend.getId());
+        if (from != null && to != null) {
+            if (!from.isBefore(to)) {
+                throw new InvalidOperationException("조회 시작 시각은 종료 시각보다 앞서야 합니다.");
+            }
+            return scheduleRepository.findVisibleInRange(ownerIds, user.getId(), from, to).stream()
+                    .sorted(Comparator.comparing(Schedule::getStartTime).thenComparing(Schedule::getId))
+                    .map(this::toFriendDTO)
+                    .collect(Collectors.toList());
+        }
 
-        // Schedule 엔티티를 DTO로 변환하여 반환
-        return schedules.stream().map(schedule -> new ScheduleDTO(schedule.getId(), schedule.getTitle(),
-                        schedule.getDescription(), schedule.getStartTime(), schedule.getEndTime(), schedule.isPublic()))
-                .collect(Collectors.toList());
+        // 친구의 공개 일정 조회
+        // 같은 친구에 대한 동시 조회는 한 번의 DB 조회 결과를 공유하고, 일정 변경 시까지 잠시 캐시함
+        List<ScheduleDTO> publicSchedules = publicScheduleCache.get(friend.getId(), () -> scheduleRepository.findByUserAndIsPublic(friend, true)
+                .stream().map(this::toFriendDTO)
+                .collect(Collectors.toList()));
+
+        // 나에게 공유된 비공개 일정 (조회자마다 다르므로 캐시하지 않음)
+        List<Schedule> shared = scheduleRepository.findSharedWith(ownerIds, user.getId());
+        if (shared.isEmpty()) {
+            return publicSchedules;
+        }
+        List<ScheduleDTO> result = new ArrayList<>(publicSchedules);
+        shared.forEach(schedule -> result.add(toFriendDTO(schedule)));
+        result.sort(Comparator.comparing(ScheduleDTO::getStartTime).thenComparing(ScheduleDTO::getId));
+        return result;
+    }
+
+    /**
+     * 일정 공유 대상 조회 (본인 일정만)
+     */
+    @Transactional(readOnly = true)
+    public ScheduleShareDTO getShares(Long id) {
+        getOwnSchedule(id);
+
+        List<String> userEmails = new ArrayList<>();
+        List<Long> groupIds = new ArrayList<>();
+        for (ScheduleShare share : scheduleShareRepository.findByScheduleId(id)) {
+            if (share.getTargetUser() != null) {
+                userEmails.add(share.getTargetUser().getEmail());
+            } else {
+                groupIds.add(share.getTargetGroup().getId());
+            }
+        }
+        return new ScheduleShareDTO(userEmails, groupIds);
+    }
+
+    /**
+     * 일정 공유 대상 교체 (친구는 수락된 친구만, 그룹은 본인이 만든 그룹만 가능)
+     */
+    @Transactional
+    public ScheduleShareDTO replaceShares(Long id, ScheduleShareDTO shareDTO) {
+        Schedule schedule = getOwnSchedule(id);
+        User owner = schedule.getUser();
+
+        List<User> users = friendGroupService.resolveFriends(owner, shareDTO.getUserEmails());
+        List<FriendGroup> groups = List.of();
+        if (shareDTO.getGroupIds() != null && !shareDTO.getGroupIds().isEmpty()) {
+            Set<Long> groupIds = new HashSet<>(shareDTO.getGroupIds());
+            groups = friendGroupRepository.findByOwnerAndIdIn(owner, groupIds);
+            if (groups.size() != groupIds.size()) {
+                throw new ResourceNotFoundException("친구 그룹을 찾을 수 없습니다. id: " + groupIds);
+            }
+        }
+
+        scheduleShareRepository.deleteByScheduleId(id);
+        List<ScheduleShare> shares = new ArrayList<>();
+        users.forEach(user -> shares.add(ScheduleShare.builder().schedule(schedule).ownerId(owner.getId()).targetUser(user).build()));
+        groups.forEach(group -> shares.add(ScheduleShare.builder().schedule(schedule).ownerId(owner.getId()).targetGroup(group).build()));
+        scheduleShareRepository.saveAll(shares);
+
+        eventPublisher.publishEvent(new ScheduleSharingChangedEvent(owner.getId()));
+        return new ScheduleShareDTO(users.stream().map(User::getEmail).toList(), groups.stream().map(FriendGroup::getId).toList());
+    }
+
+    /**
+     * 본인 일정 조회 (다른 사용자의 일정이면 403)
+     */
+    private Schedule getOwnSchedule(Long id) {
+        Schedule schedule = scheduleRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("일정을 찾을 수 없습니다. id: " + id));
+        if (!schedule.getUser().getId().equals(getCurrentUserId())) {
+            throw new ForbiddenException("본인의 일정만 변경할 수 있습니다.");
+        }
+        return schedule;
+    }
+
+    /**
+     * 공개 여부가 지정되지 않으면 비공개로 처리
+     */
+    private static boolean isPublic(ScheduleDTO scheduleDTO) {
+        return Boolean.TRUE.equals(scheduleDTO.getIsPublic());
+    }
+
+    private ScheduleDTO toFriendDTO(Schedule schedule) {
+        return new ScheduleDTO(schedule.getId(), schedule.getTitle(), schedule.getDescription(),
+                schedule.getStartTime(), schedule.getEndTime(), schedule.isPublic());
+    }
+
+    private ScheduleDTO toDTO(ArchivedSchedule schedule) {
+        return new ScheduleDTO(schedule.getId(), schedule.getTitle(), schedule.getDescription(),
+                schedule.getStartTime(), schedule.getEndTime(), schedule.isPublic(), schedule.getVersion());
     }
 }
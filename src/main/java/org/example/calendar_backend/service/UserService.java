@@ -1,23 +1,33 @@
 package org.example.calendar_backend.service;
 
+import io.jsonwebtoken.Claims;
 import org.example.calendar_backend.dto.*;
 import org.example.calendar_backend.entity.Friendship;
 import org.example.calendar_backend.entity.FriendshipStatus;
 import org.example.calendar_backend.entity.User;
+import org.example.calendar_backend.event.FriendshipChangedEvent;
+import org.example.calendar_backend.event.ScheduleSharingChangedEvent;
 import org.example.calendar_backend.exception.EmailAlreadyExistsException;
 import org.example.calendar_backend.exception.InvalidOperationException;
+import org.example.calendar_backend.exception.InvalidTokenException;
 import org.example.calendar_backend.exception.ResourceNotFoundException;
+import org.example.calendar_backend.repository.FriendGroupMemberRepository;
 import org.example.calendar_backend.repository.FriendshipRepository;
+import org.example.calendar_backend.repository.ScheduleShareRepository;
 import org.example.calendar_backend.repository.UserRepository;
 import org.example.calendar_backend.security.JwtTokenProvider;
+import org.example.calendar_backend.security.TokenRevocationStore;
 import org.example.calendar_backend.security.UserPrincipal;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -26,20 +36,32 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final FriendshipRepository friendshipRepository;
+    private final ScheduleShareRepository scheduleShareRepository;
+    private final FriendGroupMemberRepository friendGroupMemberRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserService(UserRepository userRepository,
                        FriendshipRepository friendshipRepository,
+                       ScheduleShareRepository scheduleShareRepository,
+                       FriendGroupMemberRepository friendGroupMemberRepository,
                        PasswordEncoder passwordEncoder,
                        AuthenticationManager authenticationManager,
-                       JwtTokenProvider jwtTokenProvider) {
+                       JwtTokenProvider jwtTokenProvider,
+                       TokenRevocationStore tokenRevocationStore,
+                       ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.friendshipRepository = friendshipRepository;
+        this.scheduleShareRepository = scheduleShareRepository;
+        this.friendGroupMemberRepository = friendGroupMemberRepository;
         this.passwordEncoder = passwordEncoder;
         this.authenticationManager = authenticationManager;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenRevocationStore = tokenRevocationStore;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -78,8 +100,39 @@ public class UserService {
 
         // `UserPrincipal`로 변환하여 ID 가져오기
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
-        String accessToken = jwtTokenProvider.generateToken(userPrincipal.getEmail());
-        String refreshToken = jwtTokenProvider.generateRefreshToken(userPrincipal.getEmail());
+        String familyId = jwtTokenProvider.newFamilyId();
+        String accessToken = jwtTokenProvider.generateToken(userPrincipal.getEmail(), familyId);
+        String refreshToken = jwtTokenProvider.generateRefreshToken(userPrincipal.getEmail(), familyId);
+
+        return new JwtAuthenticationResponse(accessToken, refreshToken);
+    }
+
+    /**
+     * 토큰 재발급: 리프레쉬 토큰을 새 토큰 쌍으로 교체 (사용한 리프레쉬 토큰은 폐기)
+     * 이미 사용된 리프레쉬 토큰이 다시 들어오면 탈취로 간주하고 같은 family 의 토큰을 모두 폐기한다.
+     */
+    @Transactional(noRollbackFor = InvalidTokenException.class)
+    public JwtAuthenticationResponse refresh(RefreshTokenRequestDTO refreshRequest) {
+        Claims claims = jwtTokenProvider.parseClaims(refreshRequest.getRefreshToken());
+        if (claims == null || !JwtTokenProvider.TYPE_REFRESH.equals(claims.get(JwtTokenProvider.CLAIM_TYPE, String.class))) {
+            throw new InvalidTokenException("유효하지 않은 리프레쉬 토큰입니다.");
+        }
+
+        String email = claims.getSubject();
+        String familyId = claims.get(JwtTokenProvider.CLAIM_FAMILY, String.class);
+        if (claims.getId() == null || familyId == null || tokenRevocationStore.isFamilyRevoked(familyId)) {
+            throw new InvalidTokenException("폐기된 리프레쉬 토큰입니다.");
+        }
+
+        // 사용한 리프레쉬 토큰 폐기 (동시에 같은 토큰이 들어오면 한 요청만 성공)
+        if (!tokenRevocationStore.revokeToken(claims.getId(), claims.getExpiration().toInstant())) {
+            Instant familyExpiresAt = Instant.now().plusMillis(jwtTokenProvider.getRefreshTokenExpiration());
+            tokenRevocationStore.revokeFamily(familyId, familyExpiresAt);
+            throw new InvalidTokenException("이미 사용된 리프레쉬 토큰입니다. 다시 로그인해주세요.");
+        }
+
+        String accessToken = jwtTokenProvider.generateToken(email, familyId);
+        String refreshToken = jwtTokenProvider.generateRefreshToken(email, familyId);
 
         return new JwtAuthenticationResponse(accessToken, refreshToken);
     }
@@ -94,25 +147,20 @@ public class UserService {
             throw new InvalidOperationException("자기 자신에게 친구 요청을 보낼 수 없습니다.");
         }
 
-        // 사용자 및 친구 존재 여부 확인
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다. id: " + userEmail));
-        User friend = userRepository.findByEmail(friendEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다. id: " + friendEmail));
-
-        // 이미 요청했거나 친구 관계가 존재하는지 확인
-        if (friendshipRepository.findByUserAndFriend(user, friend).isPresent()) {
-            throw new InvalidOperationException("이미 친구 요청을 보냈거나 친구 관계입니다.");
+        // 친구 요청 생성 (상태: PENDING) - (user_id, friend_id) 유니크 제약으로 동시 요청에도 한 건만 생성
+        if (friendshipRepository.insertPendingIfAbsent(userEmail, friendEmail) > 0) {
+            eventPublisher.publishEvent(new FriendshipChangedEvent(FriendshipChangedEvent.Type.REQUESTED,
+                    getCurrentUserId(), null, userEmail, friendEmail));
+            return;
         }
 
-        // 친구 요청 생성 (상태: PENDING)
-        Friendship friendship = Friendship.builder()
-                .user(user)
-                .friend(friend)
-                .status(FriendshipStatus.PENDING)
-                .build();
+        // 실패한 경우에만 원인 확인 (사용자 및 친구 존재 여부)
+        userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다. id: " + userEmail));
+        userRepository.findByEmail(friendEmail)
+                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다. id: " + friendEmail));
 
-        friendshipRepository.save(friendship);
+        throw new InvalidOperationException("이미 친구 요청을 보냈거나 친구 관계입니다.");
     }
 
     /**
@@ -120,26 +168,19 @@ public class UserService {
      */
     @Transactional
     public void acceptFriendRequest(Long friendshipId) {
-        Friendship friendship = friendshipRepository.findById(friendshipId)
-                .orElseThrow(() -> new ResourceNotFoundException("친구 요청을 찾을 수 없습니다. id: " + friendshipId));
-
-        if (friendship.getStatus() != FriendshipStatus.PENDING) {
+        // PENDING 인 경우에만 수락 (동시에 수락/거절되어도 한 번만 처리)
+        if (friendshipRepository.updateStatusIfMatches(friendshipId, FriendshipStatus.PENDING, FriendshipStatus.ACCEPTED) == 0) {
+            if (!friendshipRepository.existsById(friendshipId)) {
+                throw new ResourceNotFoundException("친구 요청을 찾을 수 없습니다. id: " + friendshipId);
+            }
             throw new InvalidOperationException("이미 처리된 친구 요청입니다.");
         }
 
-        // 친구 요청 상태 변경
-        friendship.setStatus(FriendshipStatus.ACCEPTED);
-        friendshipRepository.save(friendship);
-
-        // 양방향 관계 관리를 위해 반대 방향 Friendship 객체가 없으면 생성
-        if (friendshipRepository.findByUserAndFriend(friendship.getFriend(), friendship.getUser()).isEmpty()) {
-            Friendship reverseFriendship = Friendship.builder()
-                    .user(friendship.getFriend())
-                    .friend(friendship.getUser())
-                    .status(FriendshipStatus.ACCEPTED)
-                    .build();
-            friendshipRepository.save(reverseFriendship);
-        }
+        // 양방향 관계 관리를 위해 반대 방향 Friendship 을 생성하거나 수락 상태로 변경
+        friendshipRepository.upsertAcceptedReverse(friendshipId);
+
+        eventPublisher.publishEvent(new FriendshipChangedEvent(FriendshipChangedEvent.Type.ACCEPTED,
+                getCurrentUserId(), friendshipId, null, null));
     }
 
     /**
@@ -180,35 +221,54 @@ public class UserService {
      */
     @Transactional
     public void rejectFriendRequest(Long friendshipId) {
-        Friendship friendship = friendshipRepository.findById(friendshipId)
-                .orElseThrow(() -> new ResourceNotFoundException("친구 요청을 찾을 수 없습니다. id: " + friendshipId));
-
-        if (friendship.getStatus() != FriendshipStatus.PENDING) {
+        // 친구 요청을 거절 상태로 변경 (PENDING 인 경우에만)
+        if (friendshipRepository.updateStatusIfMatches(friendshipId, FriendshipStatus.PENDING, FriendshipStatus.REJECTED) == 0) {
+            if (!friendshipRepository.existsById(friendshipId)) {
+                throw new ResourceNotFoundException("친구 요청을 찾을 수 없습니다. id: " + friendshipId);
+            }
             throw new InvalidOperationException("처리할 수 없는 친구 요청 상태입니다.");
         }
 
-        // 친구 요청을 거절 상태로 변경
-        friendship.setStatus(FriendshipStatus.REJECTED);
-        friendshipRepository.save(friendship);
+        eventPublisher.publishEvent(new FriendshipChangedEvent(FriendshipChangedEvent.Type.REJECTED,
+                getCurrentUserId(), friendshipId, null, null));
     }
 
     /**
-     * 친구 삭제
+     * 친구 삭제 (서로에게 공유한 일정과 서로의 친구 그룹 구성원도 함께 삭제)
      */
     @Transactional
     public void removeFriend(String userEmail, String friendEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다. email: " + userEmail));
-
-        User friend = userRepository.findByEmail(friendEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다. email: " + friendEmail));
+        // 양방향 친구 관계를 한 번에 삭제 (관계가 없던 경우는 그대로 성공 처리)
+        int removed = friendshipRepository.deleteBetween(userEmail, friendEmail);
+        if (removed == 1) {
+            // 한 방향만 삭제된 경우: 동시에 수락 중이던 요청이 있었다면 삭제 구문은 수락 커밋을 기다린 뒤에도
+            // 그 트랜잭션이 새로 만든 반대 방향 행은 보지 못하므로, 한쪽만 남은 친구 관계가 생기지 않도록 한 번 더 삭제
+            removed += friendshipRepository.deleteBetween(userEmail, friendEmail);
+        }
 
-        // 양방향 친구 관계를 삭제
-        friendshipRepository.findByUserAndFriend(user, friend)
-                .ifPresent(friendshipRepository::delete);
+        // 친구가 아니게 된 뒤에도 공유 일정이 보이지 않도록 같은 트랜잭션에서 정리 (사용자 조회 없이 이메일로 삭제)
+        int sharingRows = scheduleShareRepository.deleteUserSharesBetween(userEmail, friendEmail)
+                + friendGroupMemberRepository.deleteMembersBetween(userEmail, friendEmail);
+        if (sharingRows > 0) {
+            // 실제로 정리된 공유가 있을 때만 소유자 ID 를 조회하여 캐시 버전 갱신
+            userRepository.findIdsByEmailIn(List.of(userEmail, friendEmail))
+                    .forEach(ownerId -> eventPublisher.publishEvent(new ScheduleSharingChangedEvent(ownerId)));
+        }
 
-        friendshipRepository.findByUserAndFriend(friend, user)
-                .ifPresent(friendshipRepository::delete);
+        if (removed > 0) {
+            eventPublisher.publishEvent(new FriendshipChangedEvent(FriendshipChangedEvent.Type.REMOVED,
+                    getCurrentUserId(), null, userEmail, friendEmail));
+        }
     }
 
+    /**
+     * 로그인된 사용자 ID (인증 정보가 없으면 null)
+     */
+    private Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getId();
+        }
+        return null;
+    }
 }
@@ -0,0 +1,18 @@
+package org.example.calendar_backend.snapshot;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.snapshot")
+public class CalendarSnapshotProperties {
+
+    private boolean enabled = true;
+
+    private DataSize maxSize = DataSize.ofMegabytes(64);   // 전체 스냅샷 최대 크기 (넘으면 오래 안 쓴 것부터 제거)
+
+    private int rebuildQueueCapacity = 1_000;              // 대기할 수 있는 비동기 재생성 작업 수
+}
@@ -0,0 +1,108 @@
+package org.example.calendar_backend.snapshot;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * (사용자, 월) 별로 이미 직렬화된 일정 목록(byte[])을 보관하는 LRU 저장소. 전체 바이트 수로 크기를 제한한다.
+ * 생성 중 해당 월이 무효화되면 생성 결과를 버리도록 생성마다 토큰을 발급한다.
+ */
+public class CalendarSnapshotStore {
+
+    public record SnapshotKey(Long userId, YearMonth month) {
+    }
+
+    private final long maxBytes;
+    private final LinkedHashMap<SnapshotKey, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<SnapshotKey, Long> builds = new HashMap<>();
+    private long totalBytes;
+    private long nextToken;
+
+    public CalendarSnapshotStore(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public synchronized byte[] get(SnapshotKey key) {
+        return entries.get(key);
+    }
+
+    /**
+     * 생성 시작 (이후 invalidate 되면 completeBuild 가 결과를 저장하지 않음)
+     */
+    public synchronized long beginBuild(SnapshotKey key) {
+        long token = ++nextToken;
+        builds.put(key, token);
+        return token;
+    }
+
+    /**
+     * 생성 완료. 그 사이 무효화되지 않았으면 저장하고, 크기 제한을 넘으면 오래 안 쓴 스냅샷부터 제거
+     */
+    public synchronized boolean completeBuild(SnapshotKey key, long token, byte[] body) {
+        if (!builds.remove(key, token) || body.length > maxBytes) {
+            return false;
+        }
+        byte[] previous = entries.put(key, body);
+        totalBytes += body.length - (previous == null ? 0 : previous.length);
+
+        Iterator<byte[]> eldest = entries.values().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            totalBytes -= eldest.next().length;
+            eldest.remove();
+        }
+        return true;
+    }
+
+    /**
+     * 스냅샷 제거 + 진행 중인 생성 취소. 저장되어 있었으면 true
+     */
+    public synchronized boolean invalidate(SnapshotKey key) {
+        builds.remove(key);
+        byte[] removed = entries.remove(key);
+        if (removed == null) {
+            return false;
+        }
+        totalBytes -= removed.length;
+        return true;
+    }
+
+    /**
+     * 전체 제거 + 진행 중인 생성 모두 취소
+     */
+    public synchronized void clear() {
+        builds.clear();
+        entries.clear();
+        totalBytes = 0;
+    }
+
+    /**
+     * 사용자의 스냅샷이 있거나 생성 중인 월 목록
+     */
+    public synchronized List<YearMonth> months(Long userId) {
+        List<YearMonth> months = new ArrayList<>();
+        for (SnapshotKey key : entries.keySet()) {
+            if (key.userId().equals(userId)) {
+                months.add(key.month());
+            }
+        }
+        for (SnapshotKey key : builds.keySet()) {
+            if (key.userId().equals(userId) && !months.contains(key.month())) {
+                months.add(key.month());
+            }
+        }
+        return months;
+    }
+
+    public synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.calendar_backend.throttle;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 엔드포인트 그룹별 bulkhead 를 적용하는 필터.
+ * 허용량을 넘는 요청은 커넥션 풀 대기(connection-timeout)까지 쌓이지 않고 곧바로 503 + Retry-After 로 응답한다.
+ */
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    public enum Group {
+        AUTH,
+        SCHEDULE_WRITE,
+        SCHEDULE_READ,
+        FRIEND
+    }
+
+    private final Map<Group, Bulkhead> bulkheads = new EnumMap<>(Group.class);
+    private final Map<Group, Counter> rejections = new EnumMap<>(Group.class);
+    private final String retryAfterSeconds;
+
+    public BulkheadFilter(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        register(Group.AUTH, properties.getAuth(), meterRegistry);
+        register(Group.SCHEDULE_WRITE, properties.getScheduleWrite(), meterRegistry);
+        register(Group.SCHEDULE_READ, properties.getScheduleRead(), meterRegistry);
+        register(Group.FRIEND, properties.getFriend(), meterRegistry);
+        this.retryAfterSeconds = String.valueOf(Math.max(1, properties.getRetryAfter().toSeconds()));
+    }
+
+    private void register(Group group, BulkheadProperties.Group config, MeterRegistry meterRegistry) {
+        String name = group.name().toLowerCase();
+        Bulkhead bulkhead = new Bulkhead(name, config.getMaxConcurrent(), config.getMaxQueue(), config.getMaxWait());
+        bulkheads.put(group, bulkhead);
+
+        rejections.put(group, Counter.builder("bulkhead.rejected")
+                .description("bulkhead 에 의해 거절된 요청 수")
+                .tag("group", name)
+                .register(meterRegistry));
+        Gauge.builder("bulkhead.active", bulkhead, Bulkhead::getActiveCount)
+                .tag("group", name)
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.waiting", bulkhead, Bulkhead::getWaitingCount)
+                .tag("group", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        Group group = classify(request);
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Bulkhead bulkhead = bulkheads.get(group);
+        boolean acquired;
+        try {
+            acquired = bulkhead.tryAcquire();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            rejections.get(group).increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * 요청 경로/메서드로 엔드포인트 그룹 결정 (해당 없으면 null)
+     */
+    static Group classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String method = request.getMethod();
+
+        if (HttpMethod.OPTIONS.matches(method)) {
+            return null;
+        }
+        if (path.equals("/api/users/login") || path.equals("/api/users/signup") || path.equals("/api/users/refresh")) {
+            return Group.AUTH;
+        }
+        if (path.startsWith("/api/users/friends")) {
+            return Group.FRIEND;
+        }
+        if (path.startsWith("/api/schedules")) {
+            return HttpMethod.GET.matches(method) ? Group.SCHEDULE_READ : Group.SCHEDULE_WRITE;
+        }
+        return null;
+    }
+}
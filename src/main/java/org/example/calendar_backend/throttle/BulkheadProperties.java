@@ -0,0 +1,40 @@
+package org.example.calendar_backend.throttle;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.bulkhead")
+public class BulkheadProperties {
+
+    private boolean enabled = true;
+
+    private Duration retryAfter = Duration.ofSeconds(1); // 거절 시 Retry-After 헤더 값
+
+    private Group auth = new Group(8, 16, Duration.ofMillis(500));           // 로그인/회원가입 (BCrypt)
+    private Group scheduleWrite = new Group(8, 32, Duration.ofSeconds(1));   // 일정 생성/수정/삭제
+    private Group scheduleRead = new Group(16, 64, Duration.ofSeconds(1));   // 일정 조회
+    private Group friend = new Group(6, 16, Duration.ofSeconds(1));          // 친구 관련 요청
+
+    @Getter
+    @Setter
+    public static class Group {
+
+        private int maxConcurrent;   // 동시에 처리할 수 있는 최대 요청 수
+        private int maxQueue;        // 대기할 수 있는 최대 요청 수
+        private Duration maxWait;    // 대기 최대 시간
+
+        public Group() {
+        }
+
+        public Group(int maxConcurrent, int maxQueue, Duration maxWait) {
+            this.maxConcurrent = maxConcurrent;
+            this.maxQueue = maxQueue;
+            this.maxWait = maxWait;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.calendar_backend.throttle;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 요청 본문을 미리 읽어 두고 이후 컨트롤러에서 다시 읽을 수 있도록 하는 래퍼.
+ * 인증 전 요청의 본문을 메모리에 올리므로 Content-Length 가 maxBytes 이하인 요청에만 사용하고, 그 이상은 읽지 않는다.
+ */
+class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+
+    CachedBodyHttpServletRequest(HttpServletRequest request, int maxBytes) throws IOException {
+        super(request);
+        long contentLength = request.getContentLengthLong();
+        if (contentLength < 0 || contentLength > maxBytes) {
+            throw new IllegalArgumentException("본문 길이가 없거나 " + maxBytes + " 바이트를 넘습니다: " + contentLength);
+        }
+        this.body = request.getInputStream().readNBytes((int) contentLength);
+    }
+
+    /**
+     * Content-Length 가 있고 maxBytes 이하라서 본문을 미리 읽어도 되는 요청인지
+     */
+    static boolean isCacheable(HttpServletRequest request, int maxBytes) {
+        long contentLength = request.getContentLengthLong();
+        return contentLength >= 0 && contentLength <= maxBytes;
+    }
+
+    byte[] getBody() {
+        return body;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        ByteArrayInputStream input = new ByteArrayInputStream(body);
+        return new ServletInputStream() {
+            @Override
+            public boolean isFinished() {
+                return input.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(ReadListener listener) {
+                // 본문이 이미 메모리에 있으므로 바로 읽을 수 있고 곧바로 끝까지 읽힘
+                try {
+                    listener.onDataAvailable();
+                    if (isFinished()) {
+                        listener.onAllDataRead();
+                    }
+                } catch (IOException | RuntimeException ex) {
+                    listener.onError(ex);
+                }
+            }
+
+            @Override
+            public int read() {
+                return input.read();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                return input.read(b, off, len);
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        String encoding = getCharacterEncoding();
+        Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+}
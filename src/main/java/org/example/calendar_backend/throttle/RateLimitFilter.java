@@ -0,0 +1,130 @@
+package org.example.calendar_backend.throttle;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인/회원가입/친구 요청에 IP 및 계정 기준 토큰 버킷 제한을 적용하는 필터.
+ * JwtAuthenticationFilter 다음에 실행되므로 친구 요청은 인증된 사용자 기준으로 제한할 수 있다.
+ * 제한을 넘으면 429 + Retry-After 로 응답한다.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String LOGIN_PATH = "/api/users/login";
+    private static final String SIGNUP_PATH = "/api/users/signup";
+    private static final String FRIEND_REQUEST_PATH = "/api/users/friends/request";
+    private static final int MAX_BODY_BYTES = 8 * 1024;   // 이메일을 꺼내기 위해 미리 읽는 본문 최대 크기
+
+    private final Rule login;
+    private final Rule signup;
+    private final Rule friendRequest;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        this.login = new Rule("login", properties.getLogin(), properties.getMaxEntries(), meterRegistry);
+        this.signup = new Rule("signup", properties.getSignup(), properties.getMaxEntries(), meterRegistry);
+        this.friendRequest = new Rule("friend-request", properties.getFriendRequest(), properties.getMaxEntries(), meterRegistry);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        Rule rule = resolveRule(request);
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 프록시 뒤에서는 server.forward-headers-strategy 설정으로 신뢰하는 프록시가 전달한 클라이언트 IP 가 들어옴
+        long waitNanos = rule.ip.tryAcquire(request.getRemoteAddr());
+        HttpServletRequest forwarded = request;
+        if (waitNanos == 0) {
+            String account;
+            if (rule == friendRequest) {
+                account = getAuthenticatedUser();
+            } else if (CachedBodyHttpServletRequest.isCacheable(request, MAX_BODY_BYTES)) {
+                // 로그인/회원가입은 요청 본문의 이메일 기준 (본문은 컨트롤러에서 다시 읽을 수 있도록 보관)
+                CachedBodyHttpServletRequest cached = new CachedBodyHttpServletRequest(request, MAX_BODY_BYTES);
+                account = readEmail(cached.getBody());
+                forwarded = cached;
+            } else {
+                // 길이를 알 수 없거나 큰 본문은 인증 전에 메모리로 읽지 않음 → 계정 제한만 건너뛰고 IP 제한만 적용
+                account = null;
+            }
+            if (account != null) {
+                waitNanos = rule.account.tryAcquire(account);
+            }
+        }
+
+        if (waitNanos > 0) {
+            rule.rejected.increment();
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1)));
+            return;
+        }
+
+        filterChain.doFilter(forwarded, response);
+    }
+
+    private Rule resolveRule(HttpServletRequest request) {
+        if (!HttpMethod.POST.matches(request.getMethod())) {
+            return null;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return switch (path) {
+            case LOGIN_PATH -> login;
+            case SIGNUP_PATH -> signup;
+            case FRIEND_REQUEST_PATH -> friendRequest;
+            default -> null;
+        };
+    }
+
+    private String readEmail(byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            return email != null && email.isTextual() ? email.asText().trim().toLowerCase(Locale.ROOT) : null;
+        } catch (IOException | RuntimeException ex) {
+            // 잘못된 본문은 컨트롤러에서 처리하도록 계정 제한만 건너뜀
+            return null;
+        }
+    }
+
+    private String getAuthenticatedUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+
+    private static final class Rule {
+
+        private final TokenBucketRateLimiter ip;
+        private final TokenBucketRateLimiter account;
+        private final Counter rejected;
+
+        private Rule(String name, RateLimitProperties.Endpoint endpoint, int maxEntries, MeterRegistry meterRegistry) {
+            this.ip = new TokenBucketRateLimiter(endpoint.getIp().getCapacity(), endpoint.getIp().getRefillPeriod(), maxEntries);
+            // 계정 키는 클라이언트가 임의로 정할 수 있으므로 추적 한도가 차면 fail open (IP 제한은 fail closed)
+            this.account = new TokenBucketRateLimiter(endpoint.getAccount().getCapacity(), endpoint.getAccount().getRefillPeriod(),
+                    maxEntries, true);
+            this.rejected = Counter.builder("rate_limit.rejected")
+                    .description("요청 횟수 제한으로 거절된 요청 수")
+                    .tag("rule", name)
+                    .register(meterRegistry);
+        }
+    }
+}
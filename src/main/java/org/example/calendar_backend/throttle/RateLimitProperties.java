@@ -0,0 +1,53 @@
+package org.example.calendar_backend.throttle;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    private int maxEntries = 100_000;   // 제한별 추적할 최대 키(IP/계정) 수
+
+    private Endpoint login = new Endpoint(new Limit(20, Duration.ofMinutes(1)), new Limit(5, Duration.ofMinutes(1)));
+    private Endpoint signup = new Endpoint(new Limit(5, Duration.ofMinutes(1)), new Limit(3, Duration.ofMinutes(10)));
+    private Endpoint friendRequest = new Endpoint(new Limit(60, Duration.ofMinutes(1)), new Limit(20, Duration.ofMinutes(1)));
+
+    @Getter
+    @Setter
+    public static class Endpoint {
+
+        private Limit ip;        // IP 기준 제한
+        private Limit account;   // 계정(이메일) 기준 제한
+
+        public Endpoint() {
+        }
+
+        public Endpoint(Limit ip, Limit account) {
+            this.ip = ip;
+            this.account = account;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        private int capacity;          // 연속으로 허용되는 최대 요청 수
+        private Duration refillPeriod; // capacity 만큼 다시 채워지는 시간
+
+        public Limit() {
+        }
+
+        public Limit(int capacity, Duration refillPeriod) {
+            this.capacity = capacity;
+            this.refillPeriod = refillPeriod;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.calendar_backend.throttle;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키(IP, 계정 등)별 lock-free 토큰 버킷.
+ * 버킷 상태를 "다음 토큰이 채워지는 이론적 시각(TAT)" 하나의 long 으로 표현하여 CAS 한 번으로 갱신한다. (GCRA)
+ * 가득 찬(= 오래 사용되지 않은) 버킷은 새 버킷과 같으므로 주기적으로 제거하여 메모리를 제한한다.
+ * 제거한 뒤에도 추적 한도가 차 있을 때 새 키의 처리는 failOpen 으로 정한다.
+ * - fail closed(IP): 새 키를 거절. 키를 바꿔 가며 한도를 채워 제한을 우회할 수 없도록 하기 위함.
+ * - fail open(계정): 새 키를 추적하지 않고 허용. 요청 본문의 이메일은 누구나 바꿀 수 있으므로,
+ *   임의의 이메일로 한도를 채워 아직 추적되지 않은 실제 계정의 로그인을 막을 수 없도록 하기 위함. (IP 제한은 그대로 적용됨)
+ */
+public class TokenBucketRateLimiter {
+
+    private final long intervalNanos;      // 토큰 1개가 채워지는 시간
+    private final long toleranceNanos;     // 버킷 용량만큼의 연속 요청 허용치
+    private final int maxEntries;
+    private final boolean failOpen;
+    private final long sweepIntervalNanos;
+    private final LongSupplier clock;
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweep;
+
+    public TokenBucketRateLimiter(int capacity, Duration refillPeriod, int maxEntries) {
+        this(capacity, refillPeriod, maxEntries, false);
+    }
+
+    public TokenBucketRateLimiter(int capacity, Duration refillPeriod, int maxEntries, boolean failOpen) {
+        this(capacity, refillPeriod, maxEntries, failOpen, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(int capacity, Duration refillPeriod, int maxEntries, boolean failOpen, LongSupplier clock) {
+        this.intervalNanos = Math.max(1, refillPeriod.toNanos() / capacity);
+        this.toleranceNanos = intervalNanos * capacity;
+        this.maxEntries = maxEntries;
+        this.failOpen = failOpen;
+        this.sweepIntervalNanos = Math.max(refillPeriod.toNanos(), Duration.ofSeconds(1).toNanos());
+        this.clock = clock;
+        this.lastSweep = new AtomicLong(clock.getAsLong());
+    }
+
+    /**
+     * 토큰 1개 사용 시도.
+     *
+     * @return 허용되면 0, 거절되면 다음 토큰까지 기다려야 하는 시간(나노초)
+     */
+    public long tryAcquire(String key) {
+        long now = clock.getAsLong();
+        AtomicLong tat = buckets.get(key);
+        if (tat == null) {
+            sweepIfNeeded(now);
+            if (buckets.size() >= maxEntries) {
+                // 정리 후에도 한도 안의 버킷이 모두 사용 중
+                // fail open 이면 추적 없이 허용, 아니면 토큰 하나가 채워질 시간 뒤(다음 정리 이후)에 다시 시도
+                return failOpen ? 0 : intervalNanos;
+            }
+            tat = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long current = tat.get();
+            long base = current - now > 0 ? current : now;
+            long next = base + intervalNanos;
+            long excess = next - now - toleranceNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    /**
+     * 가득 찬 버킷(TAT 가 현재 이전)은 새로 만든 버킷과 동일하므로 제거
+     */
+    public void evictIdle() {
+        long now = clock.getAsLong();
+        buckets.values().removeIf(tat -> tat.get() - now <= 0);
+    }
+
+    /**
+     * 주기적으로 정리. 한도가 찼을 때는 더 자주 정리하되, 새 키마다 전체를 훑지 않도록 토큰 하나가 채워지는 시간 간격으로 제한
+     */
+    private void sweepIfNeeded(long now) {
+        long last = lastSweep.get();
+        long elapsed = now - last;
+        boolean due = elapsed >= sweepIntervalNanos || (buckets.size() >= maxEntries && elapsed >= intervalNanos);
+        if (due && lastSweep.compareAndSet(last, now)) {
+            evictIdle();
+        }
+    }
+}
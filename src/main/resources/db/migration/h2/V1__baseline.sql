@@ -0,0 +1,30 @@
+-- 로컬(H2) 프로파일용 스키마. mysql/V1__baseline.sql 과 동일한 구조
+-- (user 는 H2 예약어이므로 접속 URL 에 NON_KEYWORDS=USER 필요)
+
+CREATE TABLE user (
+  id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+  email varchar(255) NOT NULL,
+  nickname varchar(255) NOT NULL,
+  password varchar(255) NOT NULL,
+  CONSTRAINT uk_user_email UNIQUE (email)
+);
+
+CREATE TABLE schedule (
+  id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+  description varchar(255),
+  end_time timestamp(6) NOT NULL,
+  is_public boolean NOT NULL,
+  start_time timestamp(6) NOT NULL,
+  title varchar(255) NOT NULL,
+  user_id bigint NOT NULL,
+  CONSTRAINT fk_schedule_user FOREIGN KEY (user_id) REFERENCES user (id)
+);
+
+CREATE TABLE friendship (
+  id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+  status enum('ACCEPTED','PENDING','REJECTED') NOT NULL,
+  friend_id bigint NOT NULL,
+  user_id bigint NOT NULL,
+  CONSTRAINT fk_friendship_friend FOREIGN KEY (friend_id) REFERENCES user (id),
+  CONSTRAINT fk_friendship_user FOREIGN KEY (user_id) REFERENCES user (id)
+);
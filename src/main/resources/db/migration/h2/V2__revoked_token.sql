@@ -0,0 +1,7 @@
+CREATE TABLE revoked_token (
+  id varchar(64) NOT NULL PRIMARY KEY,
+  kind enum('FAMILY','TOKEN') NOT NULL,
+  expires_at timestamp(6) NOT NULL
+);
+
+CREATE INDEX idx_revoked_token_expires_at ON revoked_token (expires_at);
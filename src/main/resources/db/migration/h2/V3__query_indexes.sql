@@ -0,0 +1,7 @@
+ALTER TABLE friendship ADD CONSTRAINT uk_friendship_user_friend UNIQUE (user_id, friend_id);
+
+CREATE INDEX idx_friendship_friend_status ON friendship (friend_id, status);
+
+CREATE INDEX idx_schedule_user_public_start ON schedule (user_id, is_public, start_time);
+
+CREATE INDEX idx_schedule_user_start ON schedule (user_id, start_time);
@@ -0,0 +1,2 @@
+-- 일정 낙관적 락 버전 컬럼
+ALTER TABLE schedule ADD COLUMN version bigint NOT NULL DEFAULT 0;
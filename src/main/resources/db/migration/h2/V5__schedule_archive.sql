@@ -0,0 +1,16 @@
+CREATE TABLE schedule_archive (
+  id bigint NOT NULL PRIMARY KEY,
+  description varchar(255),
+  end_time timestamp(6) NOT NULL,
+  is_public boolean NOT NULL,
+  start_time timestamp(6) NOT NULL,
+  title varchar(255) NOT NULL,
+  user_id bigint NOT NULL,
+  version bigint NOT NULL,
+  archived_at timestamp(6) NOT NULL,
+  CONSTRAINT fk_schedule_archive_user FOREIGN KEY (user_id) REFERENCES user (id)
+);
+
+CREATE INDEX idx_schedule_archive_user_start ON schedule_archive (user_id, start_time);
+
+CREATE INDEX idx_schedule_end_time ON schedule (end_time);
@@ -0,0 +1 @@
+CREATE INDEX idx_schedule_start_time ON schedule (start_time, id);
@@ -0,0 +1,35 @@
+CREATE TABLE friend_group (
+  id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+  owner_id bigint NOT NULL,
+  name varchar(255) NOT NULL,
+  CONSTRAINT uk_friend_group_owner_name UNIQUE (owner_id, name),
+  CONSTRAINT fk_friend_group_owner FOREIGN KEY (owner_id) REFERENCES user (id)
+);
+
+CREATE TABLE friend_group_member (
+  id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+  group_id bigint NOT NULL,
+  member_id bigint NOT NULL,
+  CONSTRAINT uk_friend_group_member UNIQUE (group_id, member_id),
+  CONSTRAINT fk_friend_group_member_group FOREIGN KEY (group_id) REFERENCES friend_group (id),
+  CONSTRAINT fk_friend_group_member_member FOREIGN KEY (member_id) REFERENCES user (id)
+);
+
+CREATE INDEX idx_friend_group_member_member ON friend_group_member (member_id, group_id);
+
+CREATE TABLE schedule_share (
+  id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+  schedule_id bigint NOT NULL,
+  owner_id bigint NOT NULL,
+  target_user_id bigint,
+  target_group_id bigint,
+  CONSTRAINT uk_schedule_share_user UNIQUE (schedule_id, target_user_id),
+  CONSTRAINT uk_schedule_share_group UNIQUE (schedule_id, target_group_id),
+  CONSTRAINT fk_schedule_share_schedule FOREIGN KEY (schedule_id) REFERENCES schedule (id),
+  CONSTRAINT fk_schedule_share_user FOREIGN KEY (target_user_id) REFERENCES user (id),
+  CONSTRAINT fk_schedule_share_group FOREIGN KEY (target_group_id) REFERENCES friend_group (id)
+);
+
+CREATE INDEX idx_schedule_share_owner_user ON schedule_share (owner_id, target_user_id, schedule_id);
+
+CREATE INDEX idx_schedule_share_owner_group ON schedule_share (owner_id, target_group_id, schedule_id);
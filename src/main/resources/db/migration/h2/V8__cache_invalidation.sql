@@ -0,0 +1,10 @@
+CREATE TABLE cache_invalidation (
+  id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+  kind varchar(32) NOT NULL,
+  owner_id bigint,
+  entity_key varchar(64),
+  origin varchar(36) NOT NULL,
+  created_at timestamp(6) NOT NULL
+);
+
+CREATE INDEX idx_cache_invalidation_created_at ON cache_invalidation (created_at);
@@ -0,0 +1,12 @@
+CREATE TABLE activity_log (
+  id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+  occurred_at timestamp(6) NOT NULL,
+  actor_id bigint,
+  action varchar(32) NOT NULL,
+  target_type varchar(16) NOT NULL,
+  target_id bigint,
+  detail varchar(255)
+);
+
+CREATE INDEX idx_activity_log_target ON activity_log (target_type, target_id, occurred_at);
+CREATE INDEX idx_activity_log_actor ON activity_log (actor_id, occurred_at);
@@ -0,0 +1,36 @@
+-- 기존 ddl-auto(update) 로 생성되던 스키마 (calendar_db_backup.sql 기준)
+-- 이미 운영 중인 DB 는 baseline-on-migrate 로 이 버전을 건너뜀
+
+CREATE TABLE `user` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `email` varchar(255) NOT NULL,
+  `nickname` varchar(255) NOT NULL,
+  `password` varchar(255) NOT NULL,
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `uk_user_email` (`email`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `schedule` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `description` varchar(255) DEFAULT NULL,
+  `end_time` datetime(6) NOT NULL,
+  `is_public` bit(1) NOT NULL,
+  `start_time` datetime(6) NOT NULL,
+  `title` varchar(255) NOT NULL,
+  `user_id` bigint NOT NULL,
+  PRIMARY KEY (`id`),
+  KEY `fk_schedule_user` (`user_id`),
+  CONSTRAINT `fk_schedule_user` FOREIGN KEY (`user_id`) REFERENCES `user` (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `friendship` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `status` enum('ACCEPTED','PENDING','REJECTED') NOT NULL,
+  `friend_id` bigint NOT NULL,
+  `user_id` bigint NOT NULL,
+  PRIMARY KEY (`id`),
+  KEY `fk_friendship_friend` (`friend_id`),
+  KEY `fk_friendship_user` (`user_id`),
+  CONSTRAINT `fk_friendship_friend` FOREIGN KEY (`friend_id`) REFERENCES `user` (`id`),
+  CONSTRAINT `fk_friendship_user` FOREIGN KEY (`user_id`) REFERENCES `user` (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
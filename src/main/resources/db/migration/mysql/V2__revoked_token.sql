@@ -0,0 +1,13 @@
+-- 리프레쉬 토큰 폐기 기록 (ddl-auto 로 이미 생성된 DB 를 고려하여 IF NOT EXISTS)
+CREATE TABLE IF NOT EXISTS `revoked_token` (
+  `id` varchar(64) NOT NULL,
+  `kind` enum('FAMILY','TOKEN') NOT NULL,
+  `expires_at` datetime(6) NOT NULL,
+  PRIMARY KEY (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+-- ddl-auto 로 생성된 경우 컬럼 타입을 엔티티 매핑과 맞춤
+ALTER TABLE `revoked_token` MODIFY `expires_at` datetime(6) NOT NULL;
+
+-- 만료 기록 정리 (deleteExpired / findByExpiresAtAfter)
+CREATE INDEX `idx_revoked_token_expires_at` ON `revoked_token` (`expires_at`);
@@ -0,0 +1,17 @@
+-- 쿼리 패턴에 맞춘 인덱스
+
+-- 동시 요청으로 생긴 중복 친구 관계 정리 (가장 먼저 생성된 행만 유지) 후 유니크 제약 추가
+DELETE f1 FROM `friendship` f1
+  JOIN `friendship` f2 ON f1.`user_id` = f2.`user_id` AND f1.`friend_id` = f2.`friend_id` AND f1.`id` > f2.`id`;
+
+-- findByUserAndFriend, findByUserAndStatus(선두 컬럼), 친구 관계 중복 방지
+ALTER TABLE `friendship` ADD CONSTRAINT `uk_friendship_user_friend` UNIQUE (`user_id`, `friend_id`);
+
+-- findByFriendAndStatus (받은 친구 요청 목록)
+CREATE INDEX `idx_friendship_friend_status` ON `friendship` (`friend_id`, `status`);
+
+-- findByUserAndIsPublic (친구 공개 일정)
+CREATE INDEX `idx_schedule_user_public_start` ON `schedule` (`user_id`, `is_public`, `start_time`);
+
+-- findByUser, 월/주 요약 (user_id + start_time 범위)
+CREATE INDEX `idx_schedule_user_start` ON `schedule` (`user_id`, `start_time`);
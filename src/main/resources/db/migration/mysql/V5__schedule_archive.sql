@@ -0,0 +1,18 @@
+-- 종료된 지 오래된 일정 보관 테이블 (schedule 과 같은 컬럼 + 보관 시각, id 는 원본 유지)
+CREATE TABLE `schedule_archive` (
+  `id` bigint NOT NULL,
+  `description` varchar(255) DEFAULT NULL,
+  `end_time` datetime(6) NOT NULL,
+  `is_public` bit(1) NOT NULL,
+  `start_time` datetime(6) NOT NULL,
+  `title` varchar(255) NOT NULL,
+  `user_id` bigint NOT NULL,
+  `version` bigint NOT NULL,
+  `archived_at` datetime(6) NOT NULL,
+  PRIMARY KEY (`id`),
+  KEY `idx_schedule_archive_user_start` (`user_id`, `start_time`),
+  CONSTRAINT `fk_schedule_archive_user` FOREIGN KEY (`user_id`) REFERENCES `user` (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+-- 보관 대상 조회 (end_time < cutoff)
+CREATE INDEX `idx_schedule_end_time` ON `schedule` (`end_time`);
@@ -0,0 +1,2 @@
+-- 알림 look-ahead 조회 (사용자 구분 없이 start_time 범위)
+CREATE INDEX `idx_schedule_start_time` ON `schedule` (`start_time`, `id`);
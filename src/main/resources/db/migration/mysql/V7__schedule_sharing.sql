@@ -0,0 +1,39 @@
+-- 친구 그룹과 일정별 공유 대상
+
+CREATE TABLE `friend_group` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `owner_id` bigint NOT NULL,
+  `name` varchar(255) NOT NULL,
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `uk_friend_group_owner_name` (`owner_id`, `name`),
+  CONSTRAINT `fk_friend_group_owner` FOREIGN KEY (`owner_id`) REFERENCES `user` (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `friend_group_member` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `group_id` bigint NOT NULL,
+  `member_id` bigint NOT NULL,
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `uk_friend_group_member` (`group_id`, `member_id`),
+  -- 조회자가 속한 그룹 (member_id → group_id)
+  KEY `idx_friend_group_member_member` (`member_id`, `group_id`),
+  CONSTRAINT `fk_friend_group_member_group` FOREIGN KEY (`group_id`) REFERENCES `friend_group` (`id`),
+  CONSTRAINT `fk_friend_group_member_member` FOREIGN KEY (`member_id`) REFERENCES `user` (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `schedule_share` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `schedule_id` bigint NOT NULL,
+  `owner_id` bigint NOT NULL,
+  `target_user_id` bigint DEFAULT NULL,
+  `target_group_id` bigint DEFAULT NULL,
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `uk_schedule_share_user` (`schedule_id`, `target_user_id`),
+  UNIQUE KEY `uk_schedule_share_group` (`schedule_id`, `target_group_id`),
+  -- "소유자 O 의 일정 중 조회자 V(또는 V 가 속한 그룹)에게 공유된 것" 을 인덱스만으로 찾음
+  KEY `idx_schedule_share_owner_user` (`owner_id`, `target_user_id`, `schedule_id`),
+  KEY `idx_schedule_share_owner_group` (`owner_id`, `target_group_id`, `schedule_id`),
+  CONSTRAINT `fk_schedule_share_schedule` FOREIGN KEY (`schedule_id`) REFERENCES `schedule` (`id`),
+  CONSTRAINT `fk_schedule_share_user` FOREIGN KEY (`target_user_id`) REFERENCES `user` (`id`),
+  CONSTRAINT `fk_schedule_share_group` FOREIGN KEY (`target_group_id`) REFERENCES `friend_group` (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
@@ -0,0 +1,12 @@
+-- 노드 간 캐시 무효화 기록 (각 노드가 id 순으로 읽음)
+CREATE TABLE `cache_invalidation` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `kind` varchar(32) NOT NULL,
+  `owner_id` bigint DEFAULT NULL,
+  `entity_key` varchar(64) DEFAULT NULL,
+  `origin` varchar(36) NOT NULL,
+  `created_at` datetime(6) NOT NULL,
+  PRIMARY KEY (`id`),
+  -- 오래된 기록 정리 (deleteCreatedBefore)
+  KEY `idx_cache_invalidation_created_at` (`created_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
@@ -0,0 +1,14 @@
+-- 일정/친구 관계 변경 감사 기록 (추가만 하며 수정/삭제하지 않음)
+CREATE TABLE `activity_log` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `occurred_at` datetime(6) NOT NULL,
+  `actor_id` bigint DEFAULT NULL,
+  `action` varchar(32) NOT NULL,
+  `target_type` varchar(16) NOT NULL,
+  `target_id` bigint DEFAULT NULL,
+  `detail` varchar(255) DEFAULT NULL,
+  PRIMARY KEY (`id`),
+  -- 대상별 이력 / 사용자별 이력 조회
+  KEY `idx_activity_log_target` (`target_type`, `target_id`, `occurred_at`),
+  KEY `idx_activity_log_actor` (`actor_id`, `occurred_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
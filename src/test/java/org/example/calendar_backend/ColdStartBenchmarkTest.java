@@ -0,0 +1,160 @@
+package org.example.calendar_backend;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 콜드 스타트 비교: 기존 구성 vs prod 프로파일(지연 초기화, springdoc/스키마 검증 없음) + AOT + AppCDS
+ * 구성마다 별도 JVM 을 띄워 프로세스 시작부터 /actuator/health 가 처음 200 을 응답할 때까지의 시간,
+ * 그 직후 첫 API 요청(로그인 실패) 응답 시간, 그 시점의 RSS 를 측정한다.
+ * 모든 구성은 같은 내장 H2 설정으로 실행하며, AOT 빌드 시점에 고정되는 조건을 맞추기 위해 replica 라우팅은 끈다.
+ * 실행: ./gradlew startupBenchmark (cdsArchive 로 풀어 둔 jar 와 AppCDS 아카이브를 사용)
+ */
+@Tag("benchmark")
+class ColdStartBenchmarkTest {
+
+    private static final int ROUNDS = 3;
+    private static final Duration READY_TIMEOUT = Duration.ofSeconds(120);
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    @Test
+    void compareColdStart() throws Exception {
+        String appDir = System.getProperty("benchmark.app.dir");
+        assumeTrue(appDir != null && Files.isDirectory(Path.of(appDir)), "run with ./gradlew startupBenchmark");
+        Path dir = Path.of(appDir);
+        Path jar;
+        try (Stream<Path> files = Files.list(dir)) {
+            jar = files.filter(file -> file.toString().endsWith(".jar")).findFirst().orElseThrow();
+        }
+
+        List<Variant> variants = List.of(
+                new Variant("current (local)", List.of(), "local"),
+                new Variant("prod", List.of(), "local,prod"),
+                new Variant("prod + AOT", List.of("-Dspring.aot.enabled=true"), "local,prod"),
+                new Variant("prod + AOT + AppCDS", List.of("-XX:SharedArchiveFile=application.jsa", "-Dspring.aot.enabled=true"), "local,prod"));
+
+        for (Variant variant : variants) {
+            List<Long> ready = new ArrayList<>();
+            List<Long> firstRequest = new ArrayList<>();
+            List<Long> rss = new ArrayList<>();
+            for (int round = 0; round < ROUNDS; round++) {
+                Result result = run(dir, jar, variant);
+                ready.add(result.readyMillis());
+                firstRequest.add(result.firstRequestMillis());
+                rss.add(result.rssKb() / 1024);
+            }
+            System.out.printf("%-22s ready p50=%dms first-api p50=%dms rss p50=%dMB  runs(ready)=%s%n",
+                    variant.name(), median(ready), median(firstRequest), median(rss), ready);
+        }
+    }
+
+    private Result run(Path dir, Path jar, Variant variant) throws Exception {
+        int port = freePort();
+        String url = "jdbc:h2:mem:coldstart_" + UUID.randomUUID().toString().replace("-", "")
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1";
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("benchmark.java", "java"));
+        command.addAll(variant.jvmArgs());
+        command.addAll(List.of("-jar", jar.getFileName().toString(),
+                "--spring.profiles.active=" + variant.profiles(),
+                "--server.port=" + port,
+                "--spring.datasource.url=" + url,
+                "--app.datasource.routing.enabled=false",
+                "--app.datasource.replica.url=" + url));
+
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(dir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.to(new File(dir.toFile(), "coldstart-" + port + ".log")))
+                .start();
+        try {
+            URI health = URI.create("http://localhost:" + port + "/actuator/health");
+            while (send(HttpRequest.newBuilder(health).GET().build()) != 200) {
+                if (!process.isAlive() || System.nanoTime() - started > READY_TIMEOUT.toNanos()) {
+                    throw new IllegalStateException(variant.name() + " did not become ready, see coldstart-" + port + ".log");
+                }
+                Thread.sleep(10);
+            }
+            long readyMillis = (System.nanoTime() - started) / 1_000_000;
+
+            // 지연 초기화된 컨트롤러/서비스/보안 구성요소를 거치는 첫 API 요청
+            long requestStarted = System.nanoTime();
+            send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/users/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"nobody@test.com\",\"password\":\"password\"}"))
+                    .build());
+            long firstRequestMillis = (System.nanoTime() - requestStarted) / 1_000_000;
+
+            return new Result(readyMillis, firstRequestMillis, rssKb(process.pid()));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private int send(HttpRequest request) throws IOException, InterruptedException {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (ConnectException ex) {
+            return -1;
+        }
+    }
+
+    /**
+     * 프로세스의 현재 RSS (Linux /proc 기준, 그 외에는 -1)
+     */
+    private static long rssKb(long pid) throws IOException {
+        Path status = Path.of("/proc", String.valueOf(pid), "status");
+        if (!Files.exists(status)) {
+            return -1;
+        }
+        for (String line : Files.readAllLines(status)) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("\\D", ""));
+            }
+        }
+        return -1;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long median(List<Long> values) {
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return sorted.get(sorted.size() / 2);
+    }
+
+    private record Variant(String name, List<String> jvmArgs, String profiles) {
+    }
+
+    private record Result(long readyMillis, long firstRequestMillis, long rssKb) {
+    }
+}
@@ -0,0 +1,336 @@
+package org.example.calendar_backend;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.calendar_backend.dto.ScheduleDTO;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 장시간 실행 시 메모리 증가(누수) 확인용 soak 테스트 (로컬 H2 프로파일)
+ * 여러 사용자가 일정 생성/수정/삭제, 월별·전체 목록, 친구 일정, 검색, 요약, 히트맵 요청을 섞어서 보내는 동안
+ * sample-interval 마다 GC 후 힙 사용량, 할당 속도, 스레드 수를 기록한다.
+ * 워밍업 이후 첫 샘플들과 마지막 샘플들의 GC 후 힙 차이가 max-heap-growth-mb 를 넘거나
+ * 스레드 수가 max-thread-growth 이상 늘면 실패한다.
+ * 실행: ./gradlew soakTest -Psoak.duration=PT30M (샘플은 build/soak/samples.csv, JFR 기록은 build/soak/soak.jfr)
+ */
+@Tag("soak")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.rate-limit.enabled=false")
+@ActiveProfiles("local")
+class SoakTest {
+
+    private static final Duration DURATION = Duration.parse(System.getProperty("soak.duration", "PT10M"));
+    private static final Duration WARMUP = Duration.parse(System.getProperty("soak.warmup", "PT1M"));
+    private static final Duration SAMPLE_INTERVAL = Duration.parse(System.getProperty("soak.sample-interval", "PT10S"));
+    private static final long MAX_HEAP_GROWTH_MB = Long.getLong("soak.max-heap-growth-mb", 64);
+    private static final int MAX_THREAD_GROWTH = Integer.getInteger("soak.max-thread-growth", 16);
+    private static final int WORKERS = Math.max(Integer.getInteger("soak.workers", 8), 3);
+    private static final int HEAVY_USER_SCHEDULES = Integer.getInteger("soak.heavy-user-schedules", 5_000);
+    private static final Path OUTPUT_DIR = Path.of(System.getProperty("soak.output-dir", "build/soak"));
+    private static final int WINDOW = 3;   // 기준/최종 값으로 평균 낼 샘플 수
+    private static final String PASSWORD = "soak-password";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder rejected = new LongAdder();   // 429/503 (bulkhead 등)
+    private final Map<Integer, LongAdder> failures = new ConcurrentHashMap<>();
+
+    @Test
+    void retainedMemoryStaysBounded() throws Exception {
+        List<SoakUser> users = new ArrayList<>();
+        for (int i = 0; i < WORKERS; i++) {
+            users.add(signUp());
+        }
+        befriendNeighbours(users);
+        seedSchedules(users.get(0), HEAVY_USER_SCHEDULES);
+
+        List<Sample> samples = new ArrayList<>();
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        AtomicLong lastAllocated = new AtomicLong(allocatedBytes());
+        long started = System.nanoTime();
+        sampler.scheduleAtFixedRate(() -> {
+            synchronized (samples) {
+                samples.add(sample(started, lastAllocated));
+            }
+        }, SAMPLE_INTERVAL.toMillis(), SAMPLE_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+
+        long deadline = started + DURATION.toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(WORKERS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < WORKERS; i++) {
+            SoakUser user = users.get(i);
+            SoakUser friend = users.get((i + 1) % users.size());
+            long seed = i;
+            futures.add(workers.submit(() -> {
+                runWorkload(user, friend, new Random(seed), deadline);
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        workers.shutdown();
+        sampler.shutdown();
+        sampler.awaitTermination(1, TimeUnit.MINUTES);
+
+        writeSamples(samples);
+        long requestCount = requests.sum();
+        System.out.printf("soak: duration=%s requests=%d (%.0f/s) rejected=%d failures=%s%n",
+                DURATION, requestCount, requestCount / (double) DURATION.toSeconds(), rejected.sum(), failures);
+
+        List<Sample> measured = samples.stream()
+                .filter(sample -> sample.elapsed().compareTo(WARMUP) >= 0)
+                .toList();
+        assertThat(measured.size()).as("samples after warmup (increase soak.duration)").isGreaterThanOrEqualTo(WINDOW * 2);
+        double baselineHeapMb = average(measured.subList(0, WINDOW), Sample::heapAfterGcMb);
+        double finalHeapMb = average(measured.subList(measured.size() - WINDOW, measured.size()), Sample::heapAfterGcMb);
+        int baselineThreads = measured.get(0).threads();
+        int maxThreads = measured.stream().mapToInt(Sample::threads).max().orElseThrow();
+        System.out.printf("soak: heap after GC %.1fMB -> %.1fMB (growth %.1fMB, limit %dMB), threads %d -> max %d%n",
+                baselineHeapMb, finalHeapMb, finalHeapMb - baselineHeapMb, MAX_HEAP_GROWTH_MB, baselineThreads, maxThreads);
+
+        assertThat(failures).as("unexpected error responses").isEmpty();
+        assertThat(finalHeapMb - baselineHeapMb).as("retained heap growth (MB)").isLessThanOrEqualTo(MAX_HEAP_GROWTH_MB);
+        assertThat(maxThreads - baselineThreads).as("thread growth").isLessThan(MAX_THREAD_GROWTH);
+    }
+
+    /**
+     * 한 사용자의 작업 반복: 쓰기와 여러 종류의 조회를 섞음 (월은 넓게 분산시켜 캐시 크기 제한도 확인)
+     */
+    private void runWorkload(SoakUser user, SoakUser friend, Random random, long deadline) throws Exception {
+        List<Long> ownSchedules = new ArrayList<>();
+        YearMonth thisMonth = YearMonth.now();
+        while (System.nanoTime() < deadline) {
+            YearMonth month = thisMonth.plusMonths(random.nextInt(25) - 12);
+            int op = random.nextInt(100);
+            if (op < 20 || ownSchedules.isEmpty()) {
+                JsonNode created = send(user, "POST", "/api/schedules", schedule(month, random));
+                if (created != null) {
+                    ownSchedules.add(created.get("id").asLong());
+                }
+            } else if (op < 35) {
+                Long id = ownSchedules.get(random.nextInt(ownSchedules.size()));
+                send(user, "PUT", "/api/schedules/" + id, schedule(month, random));
+            } else if (op < 45) {
+                Long id = ownSchedules.remove(random.nextInt(ownSchedules.size()));
+                send(user, "DELETE", "/api/schedules/" + id, null);
+            } else if (op < 60) {
+                send(user, "GET", "/api/schedules/month?month=" + month, null);
+            } else if (op < 70) {
+                send(user, "GET", "/api/schedules/user", null);
+            } else if (op < 80) {
+                send(user, "GET", "/api/schedules/friend-schedules?friendEmail=" + encode(friend.email()), null);
+            } else if (op < 87) {
+                send(user, "GET", "/api/schedules/search?q=" + encode("회의 " + random.nextInt(50)), null);
+            } else if (op < 93) {
+                send(user, "GET", "/api/schedules/summary/month?month=" + month, null);
+            } else if (op < 99) {
+                send(user, "GET", "/api/schedules/heatmap?friendEmails=" + encode(friend.email())
+                        + "&start=" + month.atDay(1) + "&days=7", null);
+            } else {
+                user.refresh();
+            }
+        }
+    }
+
+    private JsonNode send(SoakUser user, String method, String path, Object body) throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + user.accessToken())
+                .header("Accept", "application/json");
+        if (body != null) {
+            builder.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        } else {
+            builder.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+        HttpResponse<byte[]> response = client.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        requests.increment();
+        int status = response.statusCode();
+        if (status == 429 || status == 503) {
+            rejected.increment();
+            return null;
+        }
+        if (status >= 400) {
+            failures.computeIfAbsent(status, s -> new LongAdder()).increment();
+            return null;
+        }
+        return response.body().length == 0 ? null : objectMapper.readTree(response.body());
+    }
+
+    private ScheduleDTO schedule(YearMonth month, Random random) {
+        LocalDateTime start = month.atDay(1 + random.nextInt(month.lengthOfMonth())).atTime(8 + random.nextInt(10), 0);
+        return new ScheduleDTO(null, "회의 " + random.nextInt(50), "soak " + UUID.randomUUID(),
+                start, start.plusMinutes(30L * (1 + random.nextInt(6))), random.nextBoolean());
+    }
+
+    private SoakUser signUp() throws IOException, InterruptedException {
+        String email = UUID.randomUUID() + "@soak.test";
+        post("/api/users/signup", objectMapper.writeValueAsString(
+                Map.of("email", email, "password", PASSWORD, "nickname", "soak")));
+        JsonNode tokens = post("/api/users/login", objectMapper.writeValueAsString(
+                Map.of("email", email, "password", PASSWORD)));
+        Long id = jdbcTemplate.queryForObject("SELECT id FROM user WHERE email = ?", Long.class, email);
+        return new SoakUser(id, email, tokens.get("accessToken").asText(), tokens.get("refreshToken").asText());
+    }
+
+    private JsonNode post(String path, String json) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(response.statusCode()).as("POST %s", path).isLessThan(300);
+        return objectMapper.readTree(response.body());
+    }
+
+    // 이웃 사용자끼리 양방향 친구 (친구 일정/히트맵 조회용)
+    private void befriendNeighbours(List<SoakUser> users) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < users.size(); i++) {
+            SoakUser user = users.get(i);
+            SoakUser next = users.get((i + 1) % users.size());
+            rows.add(new Object[]{user.id(), next.id()});
+            rows.add(new Object[]{next.id(), user.id()});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO friendship (user_id, friend_id, status) VALUES (?, ?, 'ACCEPTED')", rows);
+    }
+
+    // 일정이 많은 사용자 (전체 목록 조회 시 영속성 컨텍스트/목록 크기 확인용)
+    private void seedSchedules(SoakUser user, int count) {
+        LocalDateTime base = LocalDate.now().minusYears(1).atTime(9, 0);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            LocalDateTime start = base.plusHours(i * 2L);
+            rows.add(new Object[]{user.id(), "회의 " + (i % 50), Timestamp.valueOf(start), Timestamp.valueOf(start.plusHours(1)), i % 3 == 0});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO schedule (user_id, title, start_time, end_time, is_public, version) VALUES (?, ?, ?, ?, ?, 0)", rows);
+    }
+
+    private static Sample sample(long started, AtomicLong lastAllocated) {
+        System.gc();
+        long heapUsed = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        long allocated = allocatedBytes();
+        long allocatedSinceLast = allocated - lastAllocated.getAndSet(allocated);
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        return new Sample(Duration.ofNanos(System.nanoTime() - started), heapUsed / (1024.0 * 1024.0),
+                allocatedSinceLast / (1024.0 * 1024.0) / SAMPLE_INTERVAL.toSeconds(), threads.getThreadCount());
+    }
+
+    /**
+     * 지금까지 모든 스레드가 할당한 바이트 수 (HotSpot 확장 API, 지원하지 않으면 0)
+     */
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported()) {
+            return threads.getTotalThreadAllocatedBytes();
+        }
+        return 0;
+    }
+
+    private void writeSamples(List<Sample> samples) throws IOException {
+        Files.createDirectories(OUTPUT_DIR);
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(OUTPUT_DIR.resolve("samples.csv")))) {
+            writer.println("elapsed_s,heap_after_gc_mb,alloc_rate_mb_s,threads");
+            for (Sample sample : samples) {
+                writer.printf("%d,%.1f,%.1f,%d%n", sample.elapsed().toSeconds(), sample.heapAfterGcMb(),
+                        sample.allocationRateMbPerSecond(), sample.threads());
+                System.out.printf("soak sample t=%ds heap=%.1fMB alloc=%.1fMB/s threads=%d%n", sample.elapsed().toSeconds(),
+                        sample.heapAfterGcMb(), sample.allocationRateMbPerSecond(), sample.threads());
+            }
+        }
+    }
+
+    private static double average(List<Sample> samples, ToDoubleFunction<Sample> value) {
+        return samples.stream().mapToDouble(value).average().orElseThrow();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private record Sample(Duration elapsed, double heapAfterGcMb, double allocationRateMbPerSecond, int threads) {
+    }
+
+    private final class SoakUser {
+
+        private final Long id;
+        private final String email;
+        private String accessToken;
+        private String refreshToken;
+
+        private SoakUser(Long id, String email, String accessToken, String refreshToken) {
+            this.id = id;
+            this.email = email;
+            this.accessToken = accessToken;
+            this.refreshToken = refreshToken;
+        }
+
+        Long id() {
+            return id;
+        }
+
+        String email() {
+            return email;
+        }
+
+        String accessToken() {
+            return accessToken;
+        }
+
+        // 리프레쉬 토큰 교체 (폐기 목록이 메모리에 쌓이는 경로)
+        void refresh() throws IOException, InterruptedException {
+            JsonNode tokens = post("/api/users/refresh", objectMapper.writeValueAsString(Map.of("refreshToken", refreshToken)));
+            requests.increment();
+            accessToken = tokens.get("accessToken").asText();
+            refreshToken = tokens.get("refreshToken").asText();
+        }
+    }
+}
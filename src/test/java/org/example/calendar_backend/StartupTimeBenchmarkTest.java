@@ -0,0 +1,61 @@
+package org.example.calendar_backend;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 기동 시간 비교: ddl-auto(update) 스키마 조회 vs Flyway 마이그레이션 + ddl-auto(validate)
+ * 기본은 로컬(H2) 프로파일로 측정하며, -Dbenchmark.db.url 등으로 MySQL 에 대해 측정할 수 있다.
+ * (MySQL 측정 시 각 실행마다 빈 DB 를 지정해야 update 방식의 첫 기동 비용이 포함됨)
+ * 실행: ./gradlew benchmark --tests '*StartupTimeBenchmarkTest'
+ */
+@Tag("benchmark")
+class StartupTimeBenchmarkTest {
+
+    private static final int ROUNDS = 5;
+
+    @Test
+    void compareSchemaManagementStartup() {
+        List<Long> update = new ArrayList<>();
+        List<Long> migrate = new ArrayList<>();
+
+        for (int round = 0; round < ROUNDS; round++) {
+            update.add(boot("startup_update_" + round,
+                    "--spring.jpa.hibernate.ddl-auto=update", "--spring.flyway.enabled=false"));
+            migrate.add(boot("startup_flyway_" + round,
+                    "--spring.jpa.hibernate.ddl-auto=validate", "--spring.flyway.enabled=true"));
+        }
+
+        System.out.printf("[ddl-auto=update] median=%dms runs=%s%n", median(update), update);
+        System.out.printf("[flyway+validate] median=%dms runs=%s%n", median(migrate), migrate);
+    }
+
+    private long boot(String databaseName, String... schemaArgs) {
+        String url = System.getProperty("benchmark.db.url",
+                "jdbc:h2:mem:" + databaseName + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1");
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.profiles.active=" + System.getProperty("benchmark.profile", "local"),
+                "--server.port=0",
+                "--spring.datasource.url=" + url,
+                "--app.datasource.replica.url=" + url));
+        args.addAll(List.of(schemaArgs));
+
+        long started = System.nanoTime();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CalendarBackendApplication.class)
+                .run(args.toArray(String[]::new))) {
+            return (System.nanoTime() - started) / 1_000_000;
+        }
+    }
+
+    private static long median(List<Long> values) {
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return sorted.get(sorted.size() / 2);
+    }
+}
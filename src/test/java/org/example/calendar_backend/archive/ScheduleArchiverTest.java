@@ -0,0 +1,120 @@
+package org.example.calendar_backend.archive;
+
+import org.example.calendar_backend.dto.ScheduleDTO;
+import org.example.calendar_backend.entity.User;
+import org.example.calendar_backend.repository.UserRepository;
+import org.example.calendar_backend.service.ScheduleService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 오래된 일정이 schedule_archive 로 옮겨지고, 공유 대상이 삭제되며, 상세 조회는 보관된 일정으로 이어지는지 확인 (로컬 H2 프로파일)
+ */
+@SpringBootTest(properties = {
+        "app.schedule-archive.initial-delay=PT24H",
+        "app.schedule-archive.batch-size=2",
+        "app.schedule-archive.batch-pause=0ms"
+})
+@ActiveProfiles("local")
+class ScheduleArchiverTest {
+
+    @Autowired
+    private ScheduleArchiver scheduleArchiver;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void movesExpiredSchedulesAndDropsTheirShares() {
+        User owner = createUser();
+        User friend = createUser();
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+
+        // 배치 크기(2)보다 많은 오래된 일정으로 여러 배치를 거치게 함
+        Long old1 = insertSchedule(owner, "2년 전 일정", now.minusYears(2));
+        Long old2 = insertSchedule(owner, "18개월 전 일정", now.minusMonths(18));
+        Long old3 = insertSchedule(owner, "13개월 전 일정", now.minusMonths(13));
+        Long recent = insertSchedule(owner, "지난주 일정", now.minusWeeks(1));
+        share(old1, owner, friend);
+        share(recent, owner, friend);
+
+        scheduleArchiver.archiveExpired();
+
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM schedule WHERE user_id = ?", Long.class, owner.getId()))
+                .containsExactly(recent);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM schedule_archive WHERE user_id = ? ORDER BY id", Long.class, owner.getId()))
+                .containsExactly(old1, old2, old3);
+        assertThat(jdbcTemplate.queryForList("SELECT schedule_id FROM schedule_share WHERE owner_id = ?", Long.class, owner.getId()))
+                .containsExactly(recent);
+
+        // 다시 실행해도 옮길 일정이 없으면 그대로
+        scheduleArchiver.archiveExpired();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM schedule_archive WHERE user_id = ?", Long.class, owner.getId()))
+                .isEqualTo(3L);
+    }
+
+    @Test
+    void archivedScheduleIsStillReadable() {
+        User owner = createUser();
+        LocalDateTime end = LocalDateTime.now(ZoneOffset.UTC).minusYears(2).withNano(0);
+        Long archivedId = insertSchedule(owner, "보관될 일정", end);
+        Long recentId = insertSchedule(owner, "최근 일정", LocalDateTime.now(ZoneOffset.UTC).minusDays(1));
+
+        scheduleArchiver.archiveExpired();
+
+        // 상세 조회는 schedule 에 없으면 schedule_archive 에서 조회
+        ScheduleDTO archived = scheduleService.getScheduleById(archivedId);
+        assertThat(archived.getTitle()).isEqualTo("보관될 일정");
+        assertThat(archived.getEndTime()).isEqualTo(end);
+        assertThat(archived.getVersion()).isZero();
+
+        // 목록 조회는 includeArchived 인 경우에만 보관된 일정을 포함
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(owner.getEmail(), null, List.of()));
+        assertThat(scheduleService.getSchedulesByUserEmail(false)).extracting(ScheduleDTO::getId)
+                .containsExactly(recentId);
+        assertThat(scheduleService.getSchedulesByUserEmail(true)).extracting(ScheduleDTO::getId)
+                .containsExactlyInAnyOrder(recentId, archivedId);
+    }
+
+    private Long insertSchedule(User owner, String title, LocalDateTime end) {
+        jdbcTemplate.update("INSERT INTO schedule (user_id, title, start_time, end_time, is_public, version) VALUES (?, ?, ?, ?, FALSE, 0)",
+                owner.getId(), title, Timestamp.valueOf(end.minusHours(1)), Timestamp.valueOf(end));
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM schedule WHERE user_id = ?", Long.class, owner.getId());
+    }
+
+    private void share(Long scheduleId, User owner, User target) {
+        jdbcTemplate.update("INSERT INTO schedule_share (schedule_id, owner_id, target_user_id) VALUES (?, ?, ?)",
+                scheduleId, owner.getId(), target.getId());
+    }
+
+    private User createUser() {
+        String email = UUID.randomUUID() + "@test.com";
+        return userRepository.save(User.builder().email(email).password("{noop}password").nickname("tester").build());
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.calendar_backend.audit;
+
+import org.example.calendar_backend.dto.ScheduleDTO;
+import org.example.calendar_backend.event.FriendshipChangedEvent;
+import org.example.calendar_backend.event.ScheduleChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ActivityAuditListenerTest {
+
+    private final ActivityLogWriter activityLogWriter = mock(ActivityLogWriter.class);
+    private final ActivityAuditListener listener = new ActivityAuditListener(activityLogWriter);
+
+    @Test
+    void scheduleChangeRecordsActorNotOwner() {
+        ScheduleDTO after = new ScheduleDTO(10L, "회의", null, LocalDateTime.of(2024, 3, 1, 9, 0),
+                LocalDateTime.of(2024, 3, 1, 10, 0), false);
+
+        listener.onScheduleChanged(new ScheduleChangedEvent(ScheduleChangedEvent.Type.UPDATED, 7L, 3L, 10L, null, after));
+
+        ActivityRecord record = captured();
+        assertThat(record.actorId()).isEqualTo(7L);
+        assertThat(record.action()).isEqualTo("SCHEDULE_UPDATED");
+        assertThat(record.targetId()).isEqualTo(10L);
+        assertThat(record.detail()).isEqualTo("회의");
+    }
+
+    @Test
+    void friendshipAcceptRecordsIdWithoutEmails() {
+        listener.onFriendshipChanged(new FriendshipChangedEvent(FriendshipChangedEvent.Type.ACCEPTED,
+                2L, 5L, null, null));
+
+        ActivityRecord record = captured();
+        assertThat(record.actorId()).isEqualTo(2L);
+        assertThat(record.action()).isEqualTo("FRIENDSHIP_ACCEPTED");
+        assertThat(record.targetType()).isEqualTo("FRIENDSHIP");
+        assertThat(record.targetId()).isEqualTo(5L);
+        assertThat(record.detail()).isNull();
+    }
+
+    @Test
+    void friendshipRemoveRecordsEmailsWithoutId() {
+        listener.onFriendshipChanged(new FriendshipChangedEvent(FriendshipChangedEvent.Type.REMOVED,
+                2L, null, "a@test.com", "b@test.com"));
+
+        ActivityRecord record = captured();
+        assertThat(record.action()).isEqualTo("FRIENDSHIP_REMOVED");
+        assertThat(record.targetId()).isNull();
+        assertThat(record.detail()).isEqualTo("a@test.com -> b@test.com");
+    }
+
+    private ActivityRecord captured() {
+        ArgumentCaptor<ActivityRecord> captor = ArgumentCaptor.forClass(ActivityRecord.class);
+        verify(activityLogWriter).submit(captor.capture());
+        return captor.getValue();
+    }
+}
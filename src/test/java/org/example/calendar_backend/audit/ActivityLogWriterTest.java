@@ -0,0 +1,70 @@
+package org.example.calendar_backend.audit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 스레드에서 넣은 감사 기록이 대기열이 넘쳐도(caller-runs) 종료 시 모두 activity_log 에 기록되는지 확인 (로컬 H2 프로파일)
+ */
+@SpringBootTest
+@ActiveProfiles("local")
+class ActivityLogWriterTest {
+
+    private static final int THREADS = 8;
+    private static final int RECORDS_PER_THREAD = 2_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void allRecordsAreWrittenByShutdown() throws Exception {
+        AuditProperties properties = new AuditProperties();
+        properties.setQueueCapacity(1_000);
+        properties.setBatchSize(200);
+        properties.setFlushInterval(Duration.ofMillis(50));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ActivityLogWriter writer = new ActivityLogWriter(jdbcTemplate, transactionManager, properties, meterRegistry);
+
+        String marker = UUID.randomUUID().toString();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            long actorId = t;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < RECORDS_PER_THREAD; i++) {
+                    writer.submit(new ActivityRecord(LocalDateTime.now(), actorId, "SCHEDULE_UPDATED", "SCHEDULE", (long) i, marker));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        writer.close();
+
+        Integer written = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM activity_log WHERE detail = ?", Integer.class, marker);
+        assertThat(written).isEqualTo(THREADS * RECORDS_PER_THREAD);
+        assertThat(writer.queuedCount()).isZero();
+        assertThat(meterRegistry.get("audit.records").tag("result", "failed").counter().count()).isZero();
+        assertThat(meterRegistry.get("audit.records").tag("result", "dropped").counter().count()).isZero();
+    }
+}
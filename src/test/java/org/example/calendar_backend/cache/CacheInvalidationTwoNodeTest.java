@@ -0,0 +1,120 @@
+package org.example.calendar_backend.cache;
+
+import org.example.calendar_backend.CalendarBackendApplication;
+import org.example.calendar_backend.event.ScheduleSharingChangedEvent;
+import org.example.calendar_backend.security.TokenRevocationStore;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 내장 DB 를 쓰는 두 애플리케이션 컨텍스트(노드)에서, 한 노드의 변경이 cache_invalidation 기록을 통해 다른 노드의 캐시에 반영되는지 확인
+ */
+class CacheInvalidationTwoNodeTest {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final AtomicLong NEXT_OWNER_ID = new AtomicLong(1_000_000);
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        String url = "jdbc:h2:mem:invalidation_" + UUID.randomUUID().toString().replace("-", "")
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1";
+        nodeA = start(url);
+        nodeB = start(url);
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    @Test
+    void committedScheduleChangeBumpsVersionOnOtherNode() {
+        Long ownerId = NEXT_OWNER_ID.incrementAndGet();
+        ScheduleVersions versionsA = nodeA.getBean(ScheduleVersions.class);
+        ScheduleVersions versionsB = nodeB.getBean(ScheduleVersions.class);
+        long before = versionsB.current(ownerId);
+
+        inTransaction(nodeA, false, () -> nodeA.publishEvent(new ScheduleSharingChangedEvent(ownerId)));
+
+        assertThat(versionsA.current(ownerId)).isGreaterThan(before);
+        awaitTrue(() -> versionsB.current(ownerId) > before);
+    }
+
+    @Test
+    void rolledBackChangeIsNotPropagated() {
+        Long rolledBackOwner = NEXT_OWNER_ID.incrementAndGet();
+        Long committedOwner = NEXT_OWNER_ID.incrementAndGet();
+        ScheduleVersions versionsB = nodeB.getBean(ScheduleVersions.class);
+
+        inTransaction(nodeA, true, () -> nodeA.publishEvent(new ScheduleSharingChangedEvent(rolledBackOwner)));
+        inTransaction(nodeA, false, () -> nodeA.publishEvent(new ScheduleSharingChangedEvent(committedOwner)));
+
+        // 뒤에 커밋된 변경이 반영될 때까지 기다린 뒤 롤백된 변경이 없었는지 확인
+        awaitTrue(() -> versionsB.current(committedOwner) > 0);
+        assertThat(versionsB.current(rolledBackOwner)).isZero();
+    }
+
+    @Test
+    void revokedTokenIsRejectedOnOtherNode() {
+        String tokenId = UUID.randomUUID().toString();
+        TokenRevocationStore storeB = nodeB.getBean(TokenRevocationStore.class);
+        assertThat(storeB.isRevoked(tokenId, null)).isFalse();
+
+        nodeA.getBean(TokenRevocationStore.class).revokeToken(tokenId, Instant.now().plus(Duration.ofHours(1)));
+
+        awaitTrue(() -> storeB.isRevoked(tokenId, null));
+    }
+
+    private static ConfigurableApplicationContext start(String url) {
+        return new SpringApplicationBuilder(CalendarBackendApplication.class).run(
+                "--spring.profiles.active=local",
+                "--server.port=0",
+                "--spring.datasource.url=" + url,
+                "--app.datasource.replica.url=" + url,
+                "--app.cache.invalidation.poll-interval=" + POLL_INTERVAL);
+    }
+
+    private static void inTransaction(ConfigurableApplicationContext node, boolean rollback, Runnable action) {
+        new TransactionTemplate(node.getBean(PlatformTransactionManager.class)).executeWithoutResult(status -> {
+            action.run();
+            if (rollback) {
+                status.setRollbackOnly();
+            }
+        });
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within %s", TIMEOUT).isLessThan(deadline);
+            try {
+                Thread.sleep(POLL_INTERVAL.toMillis() / 2);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+}
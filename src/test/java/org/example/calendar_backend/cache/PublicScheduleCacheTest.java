@@ -0,0 +1,108 @@
+package org.example.calendar_backend.cache;
+
+import org.example.calendar_backend.dto.ScheduleDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublicScheduleCacheTest {
+
+    private static final Long OWNER = 1L;
+
+    private final ScheduleVersions scheduleVersions = new ScheduleVersions();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void servesCachedListWithinTtl() {
+        PublicScheduleCache cache = cache(Duration.ofMinutes(1), 10);
+
+        List<ScheduleDTO> first = cache.get(OWNER, this::load);
+        List<ScheduleDTO> second = cache.get(OWNER, this::load);
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void reloadsAfterTtl() {
+        PublicScheduleCache cache = cache(Duration.ZERO, 10);
+
+        cache.get(OWNER, this::load);
+        cache.get(OWNER, this::load);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void versionBumpInvalidatesEntry() {
+        PublicScheduleCache cache = cache(Duration.ofMinutes(1), 10);
+        cache.get(OWNER, this::load);
+
+        scheduleVersions.bump(OWNER);
+        List<ScheduleDTO> reloaded = cache.get(OWNER, this::load);
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(reloaded.get(0).getTitle()).isEqualTo("load 2");
+    }
+
+    @Test
+    void changeDuringLoadIsNotServedFromCache() {
+        PublicScheduleCache cache = cache(Duration.ofMinutes(1), 10);
+
+        // 로딩 도중 다른 요청의 변경이 커밋됨: 이번 결과는 변경 전 버전으로 저장되어야 함
+        List<ScheduleDTO> stale = cache.get(OWNER, () -> {
+            List<ScheduleDTO> schedules = load();
+            scheduleVersions.bump(OWNER);
+            return schedules;
+        });
+        List<ScheduleDTO> fresh = cache.get(OWNER, this::load);
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(stale.get(0).getTitle()).isEqualTo("load 1");
+        assertThat(fresh.get(0).getTitle()).isEqualTo("load 2");
+        assertThat(cache.get(OWNER, this::load)).isSameAs(fresh);
+    }
+
+    @Test
+    void remoteInvalidateAllReloadsEveryOwner() {
+        PublicScheduleCache cache = cache(Duration.ofMinutes(1), 10);
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+
+        scheduleVersions.bumpAll();
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    void skipsCachingWhenFullOfLiveEntries() {
+        PublicScheduleCache cache = cache(Duration.ofMinutes(1), 1);
+        cache.get(1L, this::load);
+
+        cache.get(2L, this::load);
+        cache.get(2L, this::load);
+        cache.get(1L, this::load);
+
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    private PublicScheduleCache cache(Duration ttl, int maxEntries) {
+        PublicScheduleCacheProperties properties = new PublicScheduleCacheProperties();
+        properties.setTtl(ttl);
+        properties.setMaxEntries(maxEntries);
+        return new PublicScheduleCache(scheduleVersions, properties);
+    }
+
+    private List<ScheduleDTO> load() {
+        int load = loads.incrementAndGet();
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 9, 0);
+        return List.of(new ScheduleDTO((long) load, "load " + load, null, start, start.plusHours(1), true));
+    }
+}
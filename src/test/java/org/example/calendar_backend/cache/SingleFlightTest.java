@@ -0,0 +1,136 @@
+package org.example.calendar_backend.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int WAITERS = 4;
+
+    private final SingleFlight<String, Object> singleFlight = new SingleFlight<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void concurrentCallersShareOneLoad() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Object loaded = new Object();
+        List<Object> results = new ArrayList<>();
+
+        Thread leader = start(() -> singleFlight.execute("key", () -> {
+            loads.incrementAndGet();
+            entered.countDown();
+            await(release);
+            return loaded;
+        }), results);
+        entered.await();
+        List<Thread> waiters = new ArrayList<>();
+        for (int i = 0; i < WAITERS; i++) {
+            waiters.add(start(() -> singleFlight.execute("key", () -> {
+                loads.incrementAndGet();
+                return new Object();
+            }), results));
+        }
+        awaitBlocked(waiters);   // 모두 진행 중인 로딩을 기다리는 상태
+        release.countDown();
+        leader.join();
+        for (Thread waiter : waiters) {
+            waiter.join();
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(results).hasSize(WAITERS + 1);
+        assertThat(results).allMatch(result -> result == loaded);
+    }
+
+    @Test
+    void waitersReceiveLoaderException() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Throwable> leaderError = new AtomicReference<>();
+        AtomicReference<Throwable> waiterError = new AtomicReference<>();
+
+        Thread leader = new Thread(() -> {
+            try {
+                singleFlight.execute("key", () -> {
+                    entered.countDown();
+                    await(release);
+                    throw new IllegalStateException("load failed");
+                });
+            } catch (RuntimeException ex) {
+                leaderError.set(ex);
+            }
+        });
+        leader.start();
+        entered.await();
+        Thread waiter = new Thread(() -> {
+            try {
+                singleFlight.execute("key", Object::new);
+            } catch (RuntimeException ex) {
+                waiterError.set(ex);
+            }
+        });
+        waiter.start();
+        awaitBlocked(List.of(waiter));
+        release.countDown();
+        leader.join();
+        waiter.join();
+
+        assertThat(leaderError.get()).isInstanceOf(IllegalStateException.class);
+        assertThat(waiterError.get()).isSameAs(leaderError.get());
+    }
+
+    @Test
+    void completedLoadIsNotReused() {
+        singleFlight.execute("key", () -> loads.incrementAndGet());
+        singleFlight.execute("key", () -> loads.incrementAndGet());
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void failedLoadIsNotReused() {
+        assertThatThrownBy(() -> singleFlight.execute("key", () -> {
+            throw new IllegalStateException("load failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(singleFlight.execute("key", () -> "ok")).isEqualTo("ok");
+    }
+
+    private static Thread start(Supplier<Object> call, List<Object> results) {
+        Thread thread = new Thread(() -> {
+            Object result = call.get();
+            synchronized (results) {
+                results.add(result);
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void awaitBlocked(List<Thread> threads) throws InterruptedException {
+        for (Thread thread : threads) {
+            while (thread.getState() != Thread.State.WAITING) {
+                Thread.sleep(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package org.example.calendar_backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.calendar_backend.dto.LoginRequestDTO;
+import org.example.calendar_backend.dto.SignUpRequestDTO;
+import org.example.calendar_backend.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 일정 수정/삭제의 ETag(If-Match) 처리와 버전 충돌, 소유자 확인 (로컬 H2 프로파일)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("local")
+class ScheduleConditionalUpdateTest {
+
+    private static final String PASSWORD = "password123";
+    private static final String BODY = "{\"title\":\"%s\",\"description\":\"desc\",\"startTime\":\"2030-01-10T09:00:00\","
+            + "\"endTime\":\"2030-01-10T10:00:00\"%s}";
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String ownerToken;
+    private String otherToken;
+
+    @BeforeEach
+    void setUp() {
+        ownerToken = login(createUser());
+        otherToken = login(createUser());
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void etagRoundTripsThroughIfMatch() throws Exception {
+        long id = create();
+
+        String etag = mockMvc.perform(auth(get("/api/schedules/{id}", id), ownerToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+
+        MvcResult updated = mockMvc.perform(auth(put("/api/schedules/{id}", id), ownerToken)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body("수정", true)))
+                .andExpect(status().isOk())
+                .andReturn();
+        String newEtag = updated.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(newEtag).isNotEqualTo(etag);
+
+        // 응답의 ETag 는 다시 조회한 일정의 ETag 와 같고, 그대로 다음 수정에 사용할 수 있음
+        mockMvc.perform(auth(get("/api/schedules/{id}", id), ownerToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, newEtag));
+        mockMvc.perform(auth(put("/api/schedules/{id}", id), ownerToken)
+                        .header(HttpHeaders.IF_MATCH, newEtag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body("재수정", true)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void staleIfMatchIsPreconditionFailed() throws Exception {
+        long id = create();
+        String etag = mockMvc.perform(auth(get("/api/schedules/{id}", id), ownerToken))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // If-Match 없이 수정하면 버전이 올라가 기존 ETag 는 더 이상 맞지 않음
+        mockMvc.perform(auth(put("/api/schedules/{id}", id), ownerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body("먼저 수정", true)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(auth(put("/api/schedules/{id}", id), ownerToken)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body("늦은 수정", true)))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(auth(put("/api/schedules/{id}", id), ownerToken)
+                        .header(HttpHeaders.IF_MATCH, "\"not-a-version\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body("잘못된 ETag", true)))
+                .andExpect(status().isPreconditionFailed());
+
+        JsonNode schedule = read(mockMvc.perform(auth(get("/api/schedules/{id}", id), ownerToken)).andReturn());
+        assertThat(schedule.get("title").asText()).isEqualTo("먼저 수정");
+    }
+
+    @Test
+    void otherUsersCannotUpdateOrDelete() throws Exception {
+        long id = create();
+        String etag = mockMvc.perform(auth(get("/api/schedules/{id}", id), ownerToken))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(auth(put("/api/schedules/{id}", id), otherToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body("가로채기", true)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(auth(put("/api/schedules/{id}", id), otherToken)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body("가로채기", true)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(auth(delete("/api/schedules/{id}", id), otherToken))
+                .andExpect(status().isForbidden());
+
+        // 일정은 그대로 남아 있고 버전도 바뀌지 않음
+        mockMvc.perform(auth(get("/api/schedules/{id}", id), ownerToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        mockMvc.perform(auth(delete("/api/schedules/{id}", id), ownerToken))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    void missingIsPublicDefaultsToPrivate() throws Exception {
+        JsonNode created = read(mockMvc.perform(auth(post("/api/schedules"), ownerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body("공개 여부 없음", null)))
+                .andExpect(status().isCreated())
+                .andReturn());
+        assertThat(created.get("isPublic").asBoolean()).isFalse();
+        long id = created.get("id").asLong();
+
+        String etag = mockMvc.perform(auth(put("/api/schedules/{id}", id), ownerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body("공개 여부 없음 (수정)", null)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        JsonNode updated = read(mockMvc.perform(auth(put("/api/schedules/{id}", id), ownerToken)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body("공개 여부 없음 (조건부 수정)", null)))
+                .andExpect(status().isOk())
+                .andReturn());
+        assertThat(updated.get("isPublic").asBoolean()).isFalse();
+    }
+
+    @Test
+    void listIncludesVersionUsableAsIfMatch() throws Exception {
+        long id = create();
+        String etag = mockMvc.perform(auth(get("/api/schedules/{id}", id), ownerToken))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        JsonNode list = read(mockMvc.perform(auth(get("/api/schedules/user"), ownerToken))
+                .andExpect(status().isOk())
+                .andReturn());
+        JsonNode item = null;
+        for (JsonNode node : list) {
+            if (node.get("id").asLong() == id) {
+                item = node;
+            }
+        }
+        assertThat(item).isNotNull();
+        assertThat("\"" + item.get("version").asLong() + "\"").isEqualTo(etag);
+    }
+
+    @Test
+    void concurrentUpdatesWithoutIfMatchConflictAsPreconditionFailed() throws Exception {
+        long id = create();
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            String title = "동시 수정 " + i;
+            Callable<Integer> update = () -> {
+                start.await();
+                return mockMvc.perform(auth(put("/api/schedules/{id}", id), ownerToken)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body(title, true)))
+                        .andReturn().getResponse().getStatus();
+            };
+            futures.add(executor.submit(update));
+        }
+        start.countDown();
+
+        // 버전 충돌은 500 이 아니라 412 로 응답하고, 적어도 하나는 반영됨
+        List<Integer> statuses = new ArrayList<>();
+        for (Future<Integer> future : futures) {
+            statuses.add(future.get());
+        }
+        executor.shutdown();
+        assertThat(statuses).containsOnly(200, 412).contains(200);
+    }
+
+    private long create() throws Exception {
+        MvcResult result = mockMvc.perform(auth(post("/api/schedules"), ownerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body("원본", false)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return read(result).get("id").asLong();
+    }
+
+    private JsonNode read(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    private static String body(String title, Boolean isPublic) {
+        return String.format(BODY, title, isPublic == null ? "" : ",\"isPublic\":" + isPublic);
+    }
+
+    private static MockHttpServletRequestBuilder auth(MockHttpServletRequestBuilder request, String token) {
+        return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    }
+
+    private String createUser() {
+        String email = UUID.randomUUID() + "@test.com";
+        SignUpRequestDTO signUp = new SignUpRequestDTO();
+        signUp.setEmail(email);
+        signUp.setPassword(PASSWORD);
+        signUp.setNickname("tester");
+        userService.register(signUp);
+        return email;
+    }
+
+    private String login(String email) {
+        LoginRequestDTO login = new LoginRequestDTO();
+        login.setEmail(email);
+        login.setPassword(PASSWORD);
+        String accessToken = userService.login(login).getAccessToken();
+        SecurityContextHolder.clearContext();
+        return accessToken;
+    }
+}
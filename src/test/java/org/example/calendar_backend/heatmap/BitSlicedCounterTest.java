@@ -0,0 +1,90 @@
+package org.example.calendar_backend.heatmap;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BitSlicedCounterTest {
+
+    @Test
+    void emptyCounterReturnsZeros() {
+        assertThat(new BitSlicedCounter(5).counts()).containsExactly(0, 0, 0, 0, 0);
+    }
+
+    @Test
+    void carriesIntoHigherPlanes() {
+        // 같은 칸을 7번(111) → 8번(1000) 더하면 모든 자리에서 올림이 일어남
+        BitSlicedCounter counter = new BitSlicedCounter(3);
+        SlotBitset middle = bitset(3, 1, 2);
+        for (int i = 0; i < 7; i++) {
+            counter.add(middle);
+        }
+        assertThat(counter.counts()).containsExactly(0, 7, 0);
+
+        counter.add(middle);
+        assertThat(counter.counts()).containsExactly(0, 8, 0);
+
+        counter.add(bitset(3, 0, 3));
+        assertThat(counter.counts()).containsExactly(1, 9, 1);
+    }
+
+    @Test
+    void countsEachWordIndependently() {
+        BitSlicedCounter counter = new BitSlicedCounter(130);
+        counter.add(bitset(130, 60, 70));
+        counter.add(bitset(130, 63, 129));
+        counter.add(bitset(130, 0, 130));
+
+        int[] counts = counter.counts();
+        assertThat(counts[0]).isEqualTo(1);
+        assertThat(counts[59]).isEqualTo(1);
+        assertThat(counts[60]).isEqualTo(2);
+        assertThat(counts[63]).isEqualTo(3);
+        assertThat(counts[64]).isEqualTo(3);
+        assertThat(counts[69]).isEqualTo(3);
+        assertThat(counts[70]).isEqualTo(2);
+        assertThat(counts[128]).isEqualTo(2);
+        assertThat(counts[129]).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsBitsetWithDifferentSlotCount() {
+        BitSlicedCounter counter = new BitSlicedCounter(10);
+
+        assertThatThrownBy(() -> counter.add(new SlotBitset(11)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void matchesNaiveSum() {
+        Random random = new Random(7);
+        int slots = 200;
+        BitSlicedCounter counter = new BitSlicedCounter(slots);
+        int[] expected = new int[slots];
+        for (int user = 0; user < 300; user++) {
+            SlotBitset bitset = new SlotBitset(slots);
+            for (int i = 0; i < 3; i++) {
+                int from = random.nextInt(slots);
+                int to = from + random.nextInt(80);
+                bitset.setRange(from, to);
+            }
+            for (int slot = 0; slot < slots; slot++) {
+                if ((bitset.words()[slot >>> 6] & (1L << slot)) != 0) {
+                    expected[slot]++;
+                }
+            }
+            counter.add(bitset);
+        }
+
+        assertThat(counter.counts()).isEqualTo(expected);
+    }
+
+    private static SlotBitset bitset(int slots, int from, int to) {
+        SlotBitset bitset = new SlotBitset(slots);
+        bitset.setRange(from, to);
+        return bitset;
+    }
+}
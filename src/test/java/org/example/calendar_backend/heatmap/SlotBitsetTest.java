@@ -0,0 +1,86 @@
+package org.example.calendar_backend.heatmap;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlotBitsetTest {
+
+    @Test
+    void setsRangeWithinSingleWord() {
+        SlotBitset bitset = new SlotBitset(64);
+        bitset.setRange(3, 7);
+
+        assertThat(bitset.words()).containsExactly(0b1111000L);
+    }
+
+    @Test
+    void fillsWholeWordWhenRangeEndsOnWordBoundary() {
+        // to 가 64의 배수이면 마지막 마스크는 word 전체
+        SlotBitset bitset = new SlotBitset(128);
+        bitset.setRange(0, 64);
+
+        assertThat(bitset.words()).containsExactly(-1L, 0L);
+
+        bitset.setRange(64, 128);
+        assertThat(bitset.words()).containsExactly(-1L, -1L);
+    }
+
+    @Test
+    void setsPartialFirstAndLastWordAndFillsMiddle() {
+        SlotBitset bitset = new SlotBitset(200);
+        bitset.setRange(60, 130);
+
+        assertThat(bitset.words()).containsExactly(0xF000000000000000L, -1L, 0b11L, 0L);
+    }
+
+    @Test
+    void singleSlotAtWordEdges() {
+        SlotBitset bitset = new SlotBitset(130);
+        bitset.setRange(63, 64);
+        bitset.setRange(64, 65);
+        bitset.setRange(129, 130);
+
+        assertThat(bitset.words()).containsExactly(Long.MIN_VALUE, 1L, 0b10L);
+    }
+
+    @Test
+    void clipsOutOfRangeAndIgnoresEmptyRanges() {
+        SlotBitset bitset = new SlotBitset(70);
+        bitset.setRange(-10, 2);
+        bitset.setRange(68, 100);
+        bitset.setRange(5, 5);
+        bitset.setRange(9, 4);
+        bitset.setRange(80, 90);
+
+        assertThat(bitset.words()).containsExactly(0b11L, 0b110000L);
+    }
+
+    @Test
+    void matchesNaiveImplementation() {
+        Random random = new Random(42);
+        for (int round = 0; round < 500; round++) {
+            int slots = 1 + random.nextInt(300);
+            SlotBitset bitset = new SlotBitset(slots);
+            boolean[] expected = new boolean[slots];
+            for (int i = 0; i < 5; i++) {
+                int from = random.nextInt(slots + 20) - 10;
+                int to = from + random.nextInt(150);
+                bitset.setRange(from, to);
+                for (int slot = Math.max(from, 0); slot < Math.min(to, slots); slot++) {
+                    expected[slot] = true;
+                }
+            }
+            for (int slot = 0; slot < slots; slot++) {
+                boolean set = (bitset.words()[slot >>> 6] & (1L << slot)) != 0;
+                assertThat(set).as("slots=%d slot=%d", slots, slot).isEqualTo(expected[slot]);
+            }
+            // 마지막 word 의 칸 수 이후 비트는 항상 0
+            if ((slots & 63) != 0) {
+                assertThat(bitset.words()[bitset.words().length - 1] >>> (slots & 63)).isZero();
+            }
+        }
+    }
+}
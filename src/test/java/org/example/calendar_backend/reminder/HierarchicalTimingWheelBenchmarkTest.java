@@ -0,0 +1,54 @@
+package org.example.calendar_backend.reminder;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+/**
+ * 타이밍 휠 처리량 측정 (목표: 노드 하나에서 분당 알림 10만 건)
+ * 10분 분량의 알림을 등록/일부 취소·재등록한 뒤 1초 tick 으로 진행하며 전체 처리 시간을 잰다.
+ * 실행: ./gradlew benchmark --tests '*HierarchicalTimingWheelBenchmarkTest'
+ */
+@Tag("benchmark")
+class HierarchicalTimingWheelBenchmarkTest {
+
+    private static final int REMINDERS_PER_MINUTE = 100_000;
+    private static final int MINUTES = 10;
+    private static final long TICK = 1_000;
+
+    @Test
+    void throughput() {
+        for (int round = 0; round < 3; round++) {
+            run(round == 0 ? "warmup" : "round " + round);
+        }
+    }
+
+    private void run(String label) {
+        int total = REMINDERS_PER_MINUTE * MINUTES;
+        long span = MINUTES * 60_000L;
+        Random random = new Random(42);
+        HierarchicalTimingWheel<Long, Long> wheel = new HierarchicalTimingWheel<>(TICK, 64, 3, 0);
+        long[] fired = new long[1];
+
+        long started = System.nanoTime();
+        for (long id = 0; id < total; id++) {
+            wheel.schedule(id, random.nextLong(span), id);
+        }
+        // 일정 수정/삭제에 해당하는 재등록·취소 (각 10%)
+        for (long id = 0; id < total / 10; id++) {
+            wheel.schedule(random.nextLong(total), random.nextLong(span), id);
+            wheel.cancel(random.nextLong(total));
+        }
+        long scheduled = System.nanoTime();
+        for (long now = 0; now <= span; now += TICK) {
+            wheel.advanceTo(now, value -> fired[0]++);
+        }
+        long finished = System.nanoTime();
+
+        double seconds = (finished - started) / 1e9;
+        System.out.printf("[%s] reminders=%d fired=%d schedule=%dms advance=%dms -> %.0f reminders/min of CPU%n",
+                label, total, fired[0], (scheduled - started) / 1_000_000, (finished - scheduled) / 1_000_000,
+                total / seconds * 60);
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.calendar_backend.reminder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK = 1_000;
+
+    private final List<String> fired = new ArrayList<>();
+
+    @Test
+    void firesAtOrAfterDeadlineInOrder() {
+        HierarchicalTimingWheel<Long, String> wheel = new HierarchicalTimingWheel<>(TICK, 8, 3, 0);
+        wheel.schedule(1L, 5_000, "a");
+        wheel.schedule(2L, 2_500, "b");   // 올림되어 3초 tick 에 실행
+
+        wheel.advanceTo(2_999, fired::add);
+        assertThat(fired).isEmpty();
+
+        wheel.advanceTo(3_000, fired::add);
+        assertThat(fired).containsExactly("b");
+
+        wheel.advanceTo(10_000, fired::add);
+        assertThat(fired).containsExactly("b", "a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void cascadesFromUpperLevels() {
+        // 레벨 0: 8초, 레벨 1: 64초, 레벨 2: 512초
+        HierarchicalTimingWheel<Long, String> wheel = new HierarchicalTimingWheel<>(TICK, 8, 3, 0);
+        wheel.schedule(1L, 9_000, "level1");
+        wheel.schedule(2L, 300_000, "level2");
+        wheel.schedule(3L, 65_000, "level1-boundary");
+
+        for (long now = 0; now <= 400_000 && fired.size() < 3; now += TICK) {
+            long second = now / TICK;
+            wheel.advanceTo(now, value -> fired.add(value + "@" + second));
+        }
+        assertThat(fired).containsExactly("level1@9", "level1-boundary@65", "level2@300");
+    }
+
+    @Test
+    void firesOnceWhenJumpingForward() {
+        HierarchicalTimingWheel<Long, String> wheel = new HierarchicalTimingWheel<>(TICK, 8, 3, 0);
+        wheel.schedule(1L, 100_000, "late");
+        wheel.schedule(2L, 3_000, "early");
+
+        wheel.advanceTo(200_000, fired::add);
+
+        assertThat(fired).containsExactly("early", "late");
+    }
+
+    @Test
+    void cancelAndRescheduleReplaceTimer() {
+        HierarchicalTimingWheel<Long, String> wheel = new HierarchicalTimingWheel<>(TICK, 8, 3, 0);
+        wheel.schedule(1L, 5_000, "old");
+        wheel.schedule(1L, 7_000, "new");
+        wheel.schedule(2L, 6_000, "cancelled");
+        assertThat(wheel.cancel(2L)).isTrue();
+        assertThat(wheel.cancel(2L)).isFalse();
+
+        wheel.advanceTo(10_000, fired::add);
+
+        assertThat(fired).containsExactly("new");
+    }
+
+    @Test
+    void pastDeadlineFiresOnNextAdvance() {
+        HierarchicalTimingWheel<Long, String> wheel = new HierarchicalTimingWheel<>(TICK, 8, 3, 10_000);
+        wheel.schedule(1L, 1_000, "overdue");
+
+        wheel.advanceTo(10_000, fired::add);
+
+        assertThat(fired).containsExactly("overdue");
+    }
+
+    @Test
+    void rejectsDeadlineBeyondHorizon() {
+        HierarchicalTimingWheel<Long, String> wheel = new HierarchicalTimingWheel<>(TICK, 8, 2, 0);
+
+        assertThat(wheel.schedule(1L, wheel.horizonMillis(), "edge")).isTrue();
+        assertThat(wheel.schedule(2L, wheel.horizonMillis() + TICK, "beyond")).isFalse();
+        assertThat(wheel.contains(2L)).isFalse();
+        assertThatThrownBy(() -> new HierarchicalTimingWheel<Long, String>(TICK, 10, 2, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.calendar_backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NGramTokenizerTest {
+
+    @Test
+    void normalizesCaseAndFullWidthCharacters() {
+        assertThat(NGramTokenizer.normalize("ＴＥＡＭ Meeting")).isEqualTo("team meeting");
+        assertThat(NGramTokenizer.normalize(null)).isEqualTo("");
+    }
+
+    @Test
+    void indexTokensAreUnigramsAndBigramsPerWord() {
+        assertThat(NGramTokenizer.indexTokens("팀 회의실")).containsExactly("팀", "회", "회의", "의", "의실", "실");
+        // 단어 경계(공백/구두점)를 넘는 2-gram 은 만들지 않음
+        assertThat(NGramTokenizer.indexTokens("ab,cd")).containsExactly("a", "ab", "b", "c", "cd", "d");
+    }
+
+    @Test
+    void tokensAreCodePointBased() {
+        String emoji = "😀";   // 보조 평면 문자 (UTF-16 두 글자)
+
+        assertThat(NGramTokenizer.indexTokens(emoji + emoji)).containsExactly(emoji, emoji + emoji);
+        assertThat(NGramTokenizer.queryTokens(emoji)).containsExactly(emoji);
+    }
+
+    @Test
+    void queryTokensUseBigramsExceptForSingleCharacterWords() {
+        assertThat(NGramTokenizer.queryTokens("회")).containsExactly("회");
+        assertThat(NGramTokenizer.queryTokens("회의실")).containsExactly("회의", "의실");
+        assertThat(NGramTokenizer.queryTokens("")).isEmpty();
+    }
+
+    @Test
+    void queryWordsAreNormalizedAndSplit() {
+        assertThat(NGramTokenizer.queryWords("  Team, 회의! ")).containsExactly("team", "회의");
+        assertThat(NGramTokenizer.queryWords(" .. ")).isEmpty();
+    }
+}
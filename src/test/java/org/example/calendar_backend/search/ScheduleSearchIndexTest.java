@@ -0,0 +1,158 @@
+package org.example.calendar_backend.search;
+
+import org.example.calendar_backend.dto.ScheduleDTO;
+import org.example.calendar_backend.entity.Schedule;
+import org.example.calendar_backend.entity.User;
+import org.example.calendar_backend.repository.ScheduleRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ScheduleSearchIndexTest {
+
+    private static final Long OWNER = 1L;
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 3, 1, 9, 0);
+
+    private final ScheduleRepository scheduleRepository = mock(ScheduleRepository.class);
+    private final ScheduleSearchIndex index = new ScheduleSearchIndex(scheduleRepository, new NoOpTransactionManager());
+
+    @Test
+    void findsSchedulesContainingEveryWordNewestFirst() {
+        index.upsert(OWNER, schedule(1L, "주간 팀 회의", 0));
+        index.upsert(OWNER, schedule(2L, "팀 회식", 1));
+        index.upsert(OWNER, schedule(3L, "Team 회의록 정리", 2));
+
+        assertThat(ids(index.search("회의", document -> true, 10))).containsExactly(3L, 1L);
+        assertThat(ids(index.search("팀 회의", document -> true, 10))).containsExactly(1L);
+        assertThat(ids(index.search("팀", document -> true, 10))).containsExactly(2L, 1L);
+        assertThat(ids(index.search("TEAM", document -> true, 10))).containsExactly(3L);
+        assertThat(ids(index.search("회의", document -> true, 1))).containsExactly(3L);
+        assertThat(index.search("출장", document -> true, 10)).isEmpty();
+    }
+
+    @Test
+    void bigramCandidatesAreCheckedAgainstText() {
+        // "ab bc cd" 는 "abcd" 의 2-gram(ab, bc, cd)을 모두 갖지만 실제로 포함하지는 않음
+        index.upsert(OWNER, schedule(1L, "ab bc cd", 0));
+        index.upsert(OWNER, schedule(2L, "abcd", 0));
+
+        assertThat(ids(index.search("abcd", document -> true, 10))).containsExactly(2L);
+    }
+
+    @Test
+    void appliesVisibilityFilter() {
+        index.upsert(OWNER, schedule(1L, "공개 회의", 0, true));
+        index.upsert(OWNER, schedule(2L, "비공개 회의", 1, false));
+
+        assertThat(ids(index.search("회의", ScheduleSearchIndex.IndexedSchedule::isPublic, 10))).containsExactly(1L);
+    }
+
+    @Test
+    void updateAndRemoveReplacePostings() {
+        index.upsert(OWNER, schedule(1L, "치과 예약", 0));
+        index.upsert(OWNER, schedule(1L, "안과 예약", 0));
+
+        assertThat(index.search("치과", document -> true, 10)).isEmpty();
+        assertThat(ids(index.search("안과", document -> true, 10))).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(index.search("예약", document -> true, 10)).isEmpty();
+    }
+
+    @Test
+    void rebuildDoesNotResurrectOrOverwriteChangesMadeWhileLoading() {
+        User owner = User.builder().id(OWNER).build();
+        when(scheduleRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class))).thenAnswer(invocation -> {
+            // 배치를 읽는 동안 일정 2 삭제, 일정 1 수정 이벤트가 먼저 반영됨
+            index.remove(2L);
+            index.upsert(OWNER, schedule(1L, "변경된 회의", 0));
+            return new SliceImpl<>(List.of(
+                    entity(owner, 1L, "예전 회의"),
+                    entity(owner, 2L, "삭제된 회의"),
+                    entity(owner, 3L, "새 회의")));
+        });
+
+        index.rebuildFromRepository();
+
+        assertThat(ids(index.search("회의", document -> true, 10))).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.search("예전", document -> true, 10)).isEmpty();
+        assertThat(ids(index.search("변경된", document -> true, 10))).containsExactly(1L);
+    }
+
+    @Test
+    void rebuildIndexesEveryBatch() {
+        User owner = User.builder().id(OWNER).build();
+        List<Schedule> firstBatch = new ArrayList<>();
+        for (long id = 1; id <= 1000; id++) {
+            firstBatch.add(entity(owner, id, "일정 " + id));
+        }
+        // 한 배치(1000개)가 가득 차면 마지막 id 다음부터 이어서 읽음
+        when(scheduleRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            if (afterId == 0L) {
+                return new SliceImpl<>(firstBatch);
+            }
+            return new SliceImpl<>(afterId == 1000L ? List.of(entity(owner, 1001L, "마지막 회의")) : List.<Schedule>of());
+        });
+
+        index.rebuildFromRepository();
+
+        assertThat(ids(index.search("마지막", document -> true, 10))).containsExactly(1001L);
+        assertThat(index.search("일정", document -> true, 2000)).hasSize(1000);
+    }
+
+    private static List<Long> ids(List<ScheduleDTO> schedules) {
+        return schedules.stream().map(ScheduleDTO::getId).toList();
+    }
+
+    private static ScheduleDTO schedule(Long id, String title, int dayOffset) {
+        return schedule(id, title, dayOffset, true);
+    }
+
+    private static ScheduleDTO schedule(Long id, String title, int dayOffset, boolean isPublic) {
+        LocalDateTime start = BASE.plusDays(dayOffset);
+        return new ScheduleDTO(id, title, null, start, start.plusHours(1), isPublic);
+    }
+
+    private static Schedule entity(User owner, Long id, String title) {
+        return Schedule.builder().id(id).user(owner).title(title)
+                .startTime(BASE).endTime(BASE.plusHours(1)).isPublic(true).version(0L).build();
+    }
+
+    /**
+     * TransactionTemplate 용 (저장소는 mock 이므로 실제 트랜잭션 불필요)
+     */
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.calendar_backend.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 서블릿 컨테이너에서 예외의 상태 코드가 /error 포워드를 거쳐도 그대로 전달되는지 확인 (로컬 H2 프로파일)
+ * MockMvc 는 ERROR 디스패치를 수행하지 않으므로 임의 포트로 띄운 서버에 직접 요청한다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("local")
+class ErrorDispatchSecurityTest {
+
+    private static final String PASSWORD = "password123";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void replayedRefreshTokenIsUnauthorizedForAnonymousCaller() throws Exception {
+        String email = UUID.randomUUID() + "@test.com";
+        assertThat(post("/api/users/signup",
+                "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\",\"nickname\":\"tester\"}")
+                .getStatusCode()).isEqualTo(HttpStatus.OK);
+        ResponseEntity<String> login = post("/api/users/login", "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}");
+        assertThat(login.getStatusCode()).isEqualTo(HttpStatus.OK);
+        String refreshToken = objectMapper.readTree(login.getBody()).get("refreshToken").asText();
+
+        assertThat(refresh(refreshToken).getStatusCode()).isEqualTo(HttpStatus.OK);
+        // 재사용된 리프레쉬 토큰 → InvalidTokenException(401) 이 403 으로 바뀌지 않아야 함
+        ResponseEntity<String> replayed = refresh(refreshToken);
+        assertThat(replayed.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        JsonNode error = objectMapper.readTree(replayed.getBody());
+        assertThat(error.get("status").asInt()).isEqualTo(401);
+    }
+
+    @Test
+    void invalidRefreshTokenIsUnauthorized() {
+        assertThat(refresh("not-a-token").getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    void protectedEndpointStillRequiresAuthentication() {
+        // ERROR 디스패치만 허용했으므로 일반 요청은 여전히 인증 필요
+        assertThat(restTemplate.getForEntity("/api/schedules/user", String.class).getStatusCode().is4xxClientError()).isTrue();
+    }
+
+    private ResponseEntity<String> refresh(String refreshToken) {
+        return post("/api/users/refresh", "{\"refreshToken\":\"" + refreshToken + "\"}");
+    }
+
+    private ResponseEntity<String> post(String path, String json) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return restTemplate.postForEntity(path, new HttpEntity<>(json, headers), String.class);
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.calendar_backend.security;
+
+import org.example.calendar_backend.exception.ServiceBusyException;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로그인 폭주 상황에서 다른 요청의 지연 시간과 로그인 처리량 비교.
+ * - 기존: 요청 스레드에서 직접 BCrypt 실행
+ * - 변경: BoundedPasswordEncoder 전용 스레드 풀에서 실행
+ * 실행: ./gradlew benchmark --tests '*PasswordHashingBenchmarkTest'
+ */
+@Tag("benchmark")
+class PasswordHashingBenchmarkTest {
+
+    private static final int REQUEST_THREADS = 16;   // 톰캣 요청 스레드 역할
+    private static final int LOGINS = 400;
+    private static final int CHEAP_REQUESTS = 4000;
+
+    @Test
+    void loginStormAgainstOtherTraffic() throws Exception {
+        BCryptPasswordEncoder direct = new BCryptPasswordEncoder(10);
+        String hash = direct.encode("password");
+
+        report("request-thread bcrypt", direct, hash);
+
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setBcryptStrength(10);
+        properties.setThreads(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+        properties.setQueueCapacity(64);
+        properties.setTimeout(Duration.ofSeconds(5));
+        try (BoundedPasswordEncoder bounded = new BoundedPasswordEncoder(properties)) {
+            report("bounded executor", bounded, hash);
+        }
+    }
+
+    private void report(String name, PasswordEncoder encoder, String hash) throws Exception {
+        ExecutorService requestPool = Executors.newFixedThreadPool(REQUEST_THREADS);
+        List<Long> cheapLatencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger loginsOk = new AtomicInteger();
+        AtomicInteger loginsRejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        long started = System.nanoTime();
+        int cheapPerLogin = CHEAP_REQUESTS / LOGINS;
+        for (int i = 0; i < LOGINS; i++) {
+            futures.add(requestPool.submit(() -> {
+                try {
+                    if (encoder.matches("password", hash)) {
+                        loginsOk.incrementAndGet();
+                    }
+                } catch (ServiceBusyException ex) {
+                    loginsRejected.incrementAndGet();
+                }
+            }));
+            for (int j = 0; j < cheapPerLogin; j++) {
+                long submitted = System.nanoTime();
+                futures.add(requestPool.submit(() -> {
+                    cheapWork();
+                    cheapLatencies.add(System.nanoTime() - submitted);
+                }));
+            }
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - started;
+        requestPool.shutdown();
+        requestPool.awaitTermination(10, TimeUnit.SECONDS);
+
+        List<Long> sorted = new ArrayList<>(cheapLatencies);
+        Collections.sort(sorted);
+        System.out.printf("[%s] logins ok=%d rejected=%d (%.1f logins/s), cheap requests p50=%.2fms p99=%.2fms, total=%.0fms%n",
+                name, loginsOk.get(), loginsRejected.get(),
+                loginsOk.get() / (elapsed / 1e9),
+                percentile(sorted, 0.50) / 1e6, percentile(sorted, 0.99) / 1e6, elapsed / 1e6);
+    }
+
+    private static void cheapWork() {
+        // 일반 조회 요청 수준의 짧은 CPU 작업
+        long acc = 0;
+        for (int i = 0; i < 20_000; i++) {
+            acc += i * 31L ^ acc;
+        }
+        if (acc == 42) {
+            System.out.print("");
+        }
+    }
+
+    private static double percentile(List<Long> sorted, double p) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        return sorted.get((int) Math.min(sorted.size() - 1, Math.floor(p * sorted.size())));
+    }
+}
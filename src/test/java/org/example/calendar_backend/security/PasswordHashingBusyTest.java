@@ -0,0 +1,55 @@
+package org.example.calendar_backend.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 해시 작업을 기다릴 수 없을 때 로그인/회원가입이 실제 서블릿 컨테이너에서도 503 으로 응답하는지 확인 (로컬 H2 프로파일)
+ * 대기 시간을 0 으로 두어 모든 해시 작업이 ServiceBusyException 으로 끝나게 한다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.password.threads=1",
+        "app.password.timeout=0ms"
+})
+@ActiveProfiles("local")
+class PasswordHashingBusyTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void signupIsServiceUnavailableWhenHashingIsBusy() {
+        String email = UUID.randomUUID() + "@test.com";
+        ResponseEntity<String> response = post("/api/users/signup",
+                "{\"email\":\"" + email + "\",\"password\":\"password123\",\"nickname\":\"tester\"}");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @Test
+    void loginIsServiceUnavailableWhenHashingIsBusy() {
+        // 없는 계정도 타이밍 공격 방지를 위해 해시 비교를 수행하므로 같은 경로를 거침
+        String email = UUID.randomUUID() + "@test.com";
+        ResponseEntity<String> response = post("/api/users/login", "{\"email\":\"" + email + "\",\"password\":\"password123\"}");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    private ResponseEntity<String> post(String path, String json) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return restTemplate.postForEntity(path, new HttpEntity<>(json, headers), String.class);
+    }
+}
@@ -0,0 +1,168 @@
+package org.example.calendar_backend.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.example.calendar_backend.dto.JwtAuthenticationResponse;
+import org.example.calendar_backend.dto.LoginRequestDTO;
+import org.example.calendar_backend.dto.RefreshTokenRequestDTO;
+import org.example.calendar_backend.dto.SignUpRequestDTO;
+import org.example.calendar_backend.exception.InvalidTokenException;
+import org.example.calendar_backend.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.Key;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 리프레쉬 토큰 교체(rotation)와 재사용 감지, 폐기 기록의 커밋 후 반영, 토큰 종류 검사 (로컬 H2 프로파일)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("local")
+class RefreshTokenRotationTest {
+
+    private static final String PASSWORD = "password123";
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TokenRevocationStore tokenRevocationStore;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void replayedRefreshTokenRevokesWholeFamily() {
+        JwtAuthenticationResponse first = login(createUser());
+        JwtAuthenticationResponse rotated = userService.refresh(refreshRequest(first.getRefreshToken()));
+        Claims rotatedAccess = jwtTokenProvider.parseClaims(rotated.getAccessToken());
+        assertThat(tokenRevocationStore.isRevoked(rotatedAccess.getId(), rotatedAccess.get(JwtTokenProvider.CLAIM_FAMILY, String.class)))
+                .isFalse();
+
+        // 이미 교체된 리프레쉬 토큰 재사용 → 탈취로 간주
+        assertThatThrownBy(() -> userService.refresh(refreshRequest(first.getRefreshToken())))
+                .isInstanceOf(InvalidTokenException.class);
+
+        // 같은 family 에서 발급된 최신 토큰도 모두 사용 불가
+        assertThat(tokenRevocationStore.isRevoked(rotatedAccess.getId(), rotatedAccess.get(JwtTokenProvider.CLAIM_FAMILY, String.class)))
+                .isTrue();
+        assertThatThrownBy(() -> userService.refresh(refreshRequest(rotated.getRefreshToken())))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    void revokedFamilyIsRejectedByApi() throws Exception {
+        JwtAuthenticationResponse first = login(createUser());
+        JwtAuthenticationResponse rotated = userService.refresh(refreshRequest(first.getRefreshToken()));
+        mockMvc.perform(get("/api/schedules/user").header("Authorization", "Bearer " + rotated.getAccessToken()))
+                .andExpect(status().isOk());
+
+        assertThatThrownBy(() -> userService.refresh(refreshRequest(first.getRefreshToken())))
+                .isInstanceOf(InvalidTokenException.class);
+
+        mockMvc.perform(get("/api/schedules/user").header("Authorization", "Bearer " + rotated.getAccessToken()))
+                .andExpect(status().is4xxClientError());
+    }
+
+    @Test
+    void rolledBackRevocationIsNotKeptInMemory() {
+        String tokenId = UUID.randomUUID().toString();
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        transaction.executeWithoutResult(status -> {
+            assertThat(tokenRevocationStore.revokeToken(tokenId, expiresAt)).isTrue();
+            status.setRollbackOnly();
+        });
+
+        assertThat(tokenRevocationStore.isRevoked(tokenId, null)).isFalse();
+        assertThat(tokenRevocationStore.revokeToken(tokenId, expiresAt)).isTrue();
+        assertThat(tokenRevocationStore.isRevoked(tokenId, null)).isTrue();
+        assertThat(tokenRevocationStore.revokeToken(tokenId, expiresAt)).isFalse();
+    }
+
+    @Test
+    void onlyAccessTokensAuthenticateApiRequests() throws Exception {
+        String email = createUser();
+        JwtAuthenticationResponse tokens = login(email);
+        Key key = (Key) ReflectionTestUtils.getField(jwtTokenProvider, "key");
+        String untyped = Jwts.builder()
+                .setId(UUID.randomUUID().toString())
+                .setSubject(email)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(SignatureAlgorithm.HS512, key)
+                .compact();
+
+        mockMvc.perform(get("/api/schedules/user").header("Authorization", "Bearer " + tokens.getAccessToken()))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/schedules/user").header("Authorization", "Bearer " + tokens.getRefreshToken()))
+                .andExpect(status().is4xxClientError());
+        mockMvc.perform(get("/api/schedules/user").header("Authorization", "Bearer " + untyped))
+                .andExpect(status().is4xxClientError());
+    }
+
+    @Test
+    void blankRefreshTokenIsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/users/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String createUser() {
+        String email = UUID.randomUUID() + "@test.com";
+        SignUpRequestDTO signUp = new SignUpRequestDTO();
+        signUp.setEmail(email);
+        signUp.setPassword(PASSWORD);
+        signUp.setNickname("tester");
+        userService.register(signUp);
+        return email;
+    }
+
+    private JwtAuthenticationResponse login(String email) {
+        LoginRequestDTO login = new LoginRequestDTO();
+        login.setEmail(email);
+        login.setPassword(PASSWORD);
+        JwtAuthenticationResponse response = userService.login(login);
+        SecurityContextHolder.clearContext();
+        return response;
+    }
+
+    private static RefreshTokenRequestDTO refreshRequest(String refreshToken) {
+        RefreshTokenRequestDTO request = new RefreshTokenRequestDTO();
+        request.setRefreshToken(refreshToken);
+        return request;
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.calendar_backend.serialization;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.example.calendar_backend.dto.ScheduleDTO;
+import org.example.calendar_backend.dto.UserDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactDtoModuleTest {
+
+    private final ObjectMapper reflective = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final ObjectMapper compact = reflective.copy().registerModule(new CompactDtoModule(ZoneOffset.UTC));
+
+    @Test
+    void jsonMatchesReflectiveSerialization() throws Exception {
+        List<Object> values = List.of(
+                new ScheduleDTO(1L, "회의", "설명", LocalDateTime.of(2024, 3, 1, 9, 0), LocalDateTime.of(2024, 3, 1, 10, 30, 15), true),
+                new ScheduleDTO(2L, "버전", null, LocalDateTime.of(2024, 3, 2, 0, 0), LocalDateTime.of(2024, 3, 2, 1, 0), false, 3L),
+                new ScheduleDTO(null, null, null, null, null, null),
+                new UserDTO(7L, "user@test.com", "닉네임"),
+                new UserDTO());
+
+        for (Object value : values) {
+            assertThat(compact.writeValueAsString(value)).isEqualTo(reflective.writeValueAsString(value));
+        }
+    }
+
+    @Test
+    void cborWritesEpochMillis() throws Exception {
+        ObjectMapper cbor = new ObjectMapper(new CBORFactory()).registerModule(new CompactDtoModule(ZoneOffset.UTC));
+        LocalDateTime start = LocalDateTime.of(2024, 3, 1, 9, 0);
+
+        byte[] bytes = cbor.writeValueAsBytes(new ScheduleDTO(1L, "회의", null, start, start.plusHours(1), true));
+        JsonNode node = cbor.readTree(bytes);
+
+        assertThat(node.get("startTime").asLong()).isEqualTo(start.toInstant(ZoneOffset.UTC).toEpochMilli());
+        assertThat(node.get("title").asText()).isEqualTo("회의");
+        assertThat(node.has("version")).isFalse();
+    }
+}
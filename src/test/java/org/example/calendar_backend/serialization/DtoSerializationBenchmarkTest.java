@@ -0,0 +1,74 @@
+package org.example.calendar_backend.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.example.calendar_backend.dto.ScheduleDTO;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 일정 1,000건 목록 응답의 크기(원본/gzip)와 직렬화 CPU 비교
+ * 리플렉션 JSON(기존) / 직접 작성한 직렬화기 JSON / CBOR(epoch millis)
+ * 실행: ./gradlew benchmark --tests '*DtoSerializationBenchmarkTest'
+ */
+@Tag("benchmark")
+class DtoSerializationBenchmarkTest {
+
+    private static final int ROWS = 1_000;
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 5_000;
+
+    @Test
+    void scheduleListEncodings() throws Exception {
+        List<ScheduleDTO> schedules = new ArrayList<>();
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 9, 0);
+        for (int i = 0; i < ROWS; i++) {
+            schedules.add(new ScheduleDTO((long) i + 100_000, "팀 회의 " + i, i % 3 == 0 ? null : "주간 업무 공유 및 일정 조율",
+                    base.plusHours(i * 5L), base.plusHours(i * 5L + 1), i % 2 == 0, (long) (i % 7)));
+        }
+
+        ObjectMapper reflective = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ObjectMapper compactJson = reflective.copy().registerModule(new CompactDtoModule(ZoneOffset.UTC));
+        ObjectMapper compactCbor = new ObjectMapper(new CBORFactory()).registerModule(new CompactDtoModule(ZoneOffset.UTC));
+
+        run("reflective JSON (before)", reflective, schedules);
+        run("hand-written JSON", compactJson, schedules);
+        run("hand-written CBOR", compactCbor, schedules);
+    }
+
+    private void run(String label, ObjectMapper mapper, List<ScheduleDTO> schedules) throws IOException {
+        for (int i = 0; i < WARMUP; i++) {
+            mapper.writeValueAsBytes(schedules);
+        }
+        long started = System.nanoTime();
+        int size = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            size = mapper.writeValueAsBytes(schedules).length;
+        }
+        long micros = (System.nanoTime() - started) / ITERATIONS / 1_000;
+
+        byte[] body = mapper.writeValueAsBytes(schedules);
+        System.out.printf("%-26s size=%7d B gzip=%6d B serialize=%5d us / %d rows%n",
+                label, size, gzip(body).length, micros, ROWS);
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,158 @@
+package org.example.calendar_backend.service;
+
+import org.example.calendar_backend.cache.CalendarSummaryCacheProperties;
+import org.example.calendar_backend.cache.ScheduleVersions;
+import org.example.calendar_backend.dto.CalendarSummaryDTO;
+import org.example.calendar_backend.dto.DaySummaryDTO;
+import org.example.calendar_backend.dto.EventPreviewDTO;
+import org.example.calendar_backend.entity.User;
+import org.example.calendar_backend.repository.ScheduleRepository;
+import org.example.calendar_backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 서머타임 전환일이 포함된 기간의 요약이 오프셋별 구간으로 나뉘어 집계되는지 확인
+ */
+class CalendarSummaryServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String EMAIL = "summary@test.com";
+    private static final String NEW_YORK = "America/New_York";
+
+    private final ScheduleRepository scheduleRepository = mock(ScheduleRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final List<Segment> countCalls = new ArrayList<>();
+    private final List<Segment> topCalls = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(EMAIL, null, List.of()));
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(USER_ID).email(EMAIL).build()));
+        when(scheduleRepository.countByDay(eq(USER_ID), any(LocalDateTime.class), any(LocalDateTime.class), anyInt()))
+                .thenAnswer(invocation -> {
+                    countCalls.add(new Segment(invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+                    return List.of();
+                });
+        when(scheduleRepository.findTopByDay(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class), anyInt(), anyInt()))
+                .thenAnswer(invocation -> {
+                    topCalls.add(new Segment(invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+                    return List.of();
+                });
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void splitsSpringForwardWeekAtTransition() {
+        // 2027-03-14 02:00 EST(-05:00) → 03:00 EDT(-04:00), 전환 시각은 07:00 UTC
+        service("UTC").getWeekSummary(LocalDate.of(2027, 3, 13), NEW_YORK, 3);
+
+        assertThat(countCalls).containsExactly(
+                new Segment(LocalDateTime.of(2027, 3, 13, 5, 0), LocalDateTime.of(2027, 3, 14, 7, 0), -300),
+                new Segment(LocalDateTime.of(2027, 3, 14, 7, 0), LocalDateTime.of(2027, 3, 20, 4, 0), -240));
+        assertThat(topCalls).isEqualTo(countCalls);
+    }
+
+    @Test
+    void splitsFallBackWeekAtTransition() {
+        // 2027-11-07 02:00 EDT(-04:00) → 01:00 EST(-05:00), 전환 시각은 06:00 UTC
+        service("UTC").getWeekSummary(LocalDate.of(2027, 11, 6), NEW_YORK, 3);
+
+        assertThat(countCalls).containsExactly(
+                new Segment(LocalDateTime.of(2027, 11, 6, 4, 0), LocalDateTime.of(2027, 11, 7, 6, 0), -240),
+                new Segment(LocalDateTime.of(2027, 11, 7, 6, 0), LocalDateTime.of(2027, 11, 13, 5, 0), -300));
+    }
+
+    @Test
+    void singleSegmentWhenOffsetDoesNotChange() {
+        service("UTC").getWeekSummary(LocalDate.of(2027, 6, 1), NEW_YORK, 3);
+
+        assertThat(countCalls).containsExactly(
+                new Segment(LocalDateTime.of(2027, 6, 1, 4, 0), LocalDateTime.of(2027, 6, 8, 4, 0), -240));
+    }
+
+    @Test
+    void shiftIsRelativeToStorageZone() {
+        // 저장 시간대가 UTC 가 아니면 두 시간대의 오프셋 차이만큼 보정
+        service("Asia/Seoul").getWeekSummary(LocalDate.of(2027, 3, 13), NEW_YORK, 3);
+
+        assertThat(countCalls).containsExactly(
+                new Segment(LocalDateTime.of(2027, 3, 13, 14, 0), LocalDateTime.of(2027, 3, 14, 16, 0), -840),
+                new Segment(LocalDateTime.of(2027, 3, 14, 16, 0), LocalDateTime.of(2027, 3, 20, 13, 0), -780));
+    }
+
+    @Test
+    void monthSummarySplitsAtTransitionInsideMonth() {
+        service("UTC").getMonthSummary(YearMonth.of(2027, 11), NEW_YORK, 0);
+
+        assertThat(countCalls).extracting(Segment::shiftMinutes).containsExactly(-240, -300);
+        assertThat(countCalls.get(0).from()).isEqualTo(LocalDateTime.of(2027, 11, 1, 4, 0));
+        assertThat(countCalls.get(1).to()).isEqualTo(LocalDateTime.of(2027, 12, 1, 5, 0));
+        // top 이 0 이면 상위 일정은 조회하지 않음
+        assertThat(topCalls).isEmpty();
+    }
+
+    @Test
+    void mergesRowsForTransitionDayAcrossSegments() {
+        LocalDateTime transition = LocalDateTime.of(2027, 3, 14, 7, 0);
+        LocalDate transitionDay = LocalDate.of(2027, 3, 14);
+        // 전환일(03-14)은 전환 전 구간과 후 구간 양쪽에 걸쳐 있음
+        when(scheduleRepository.countByDay(eq(USER_ID), any(LocalDateTime.class), any(LocalDateTime.class), anyInt()))
+                .thenAnswer(invocation -> ((LocalDateTime) invocation.getArgument(2)).equals(transition)
+                        ? rows(new Object[]{LocalDate.of(2027, 3, 13), 1L}, new Object[]{Date.valueOf(transitionDay), 2L})
+                        : rows(new Object[]{transitionDay.toString(), 1}));
+        when(scheduleRepository.findTopByDay(eq(USER_ID), any(LocalDateTime.class), any(LocalDateTime.class), anyInt(), anyInt()))
+                .thenAnswer(invocation -> ((LocalDateTime) invocation.getArgument(2)).equals(transition)
+                        ? rows(preview(10L, LocalDateTime.of(2027, 3, 14, 5, 30), transitionDay),
+                               preview(11L, LocalDateTime.of(2027, 3, 14, 6, 30), transitionDay))
+                        : rows(preview(12L, LocalDateTime.of(2027, 3, 14, 7, 30), transitionDay)));
+
+        CalendarSummaryDTO summary = service("UTC").getWeekSummary(LocalDate.of(2027, 3, 13), NEW_YORK, 2);
+
+        assertThat(summary.getDays()).extracting(DaySummaryDTO::getDate)
+                .containsExactly(LocalDate.of(2027, 3, 13), transitionDay);
+        DaySummaryDTO day = summary.getDays().get(1);
+        assertThat(day.getCount()).isEqualTo(3L);
+        // 구간을 합쳐도 날짜별 상위 N개 제한은 유지
+        assertThat(day.getEvents()).extracting(EventPreviewDTO::getId).containsExactly(10L, 11L);
+    }
+
+    private CalendarSummaryService service(String storageZone) {
+        return new CalendarSummaryService(scheduleRepository, userRepository, new ScheduleVersions(),
+                new CalendarSummaryCacheProperties(), storageZone);
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return List.of(rows);
+    }
+
+    private static Object[] preview(Long id, LocalDateTime start, LocalDate day) {
+        return new Object[]{id, "일정 " + id, start, start.plusHours(1), Boolean.TRUE, day};
+    }
+
+    private record Segment(LocalDateTime from, LocalDateTime to, int shiftMinutes) {
+    }
+}
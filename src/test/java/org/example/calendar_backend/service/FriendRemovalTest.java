@@ -0,0 +1,142 @@
+package org.example.calendar_backend.service;
+
+import org.example.calendar_backend.dto.ScheduleDTO;
+import org.example.calendar_backend.entity.FriendshipStatus;
+import org.example.calendar_backend.entity.User;
+import org.example.calendar_backend.exception.ForbiddenException;
+import org.example.calendar_backend.repository.FriendshipRepository;
+import org.example.calendar_backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 친구 삭제 시 공유 일정/그룹 구성원 정리와, 삭제 후 다시 친구 요청하는 흐름 확인 (로컬 H2 프로파일)
+ */
+@SpringBootTest
+@ActiveProfiles("local")
+class FriendRemovalTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FriendshipRepository friendshipRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void removingFriendDropsSharesAndGroupMembershipsBothWays() {
+        User user = createUser();
+        User friend = createUser();
+        becomeFriends(user, friend);
+
+        Long userSchedule = insertPrivateSchedule(user);
+        Long friendSchedule = insertPrivateSchedule(friend);
+        shareWith(userSchedule, user, friend);
+        shareWith(friendSchedule, friend, user);
+        addToNewGroup(user, friend);
+        addToNewGroup(friend, user);
+
+        assertThat(visibleIds(friend, user)).containsExactly(userSchedule);
+
+        userService.removeFriend(user.getEmail(), friend.getEmail());
+
+        assertThat(count("SELECT COUNT(*) FROM friendship WHERE user_id IN (?, ?) AND friend_id IN (?, ?)",
+                user.getId(), friend.getId(), user.getId(), friend.getId())).isZero();
+        assertThat(count("SELECT COUNT(*) FROM schedule_share WHERE schedule_id IN (?, ?)", userSchedule, friendSchedule)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM friend_group_member m JOIN friend_group g ON g.id = m.group_id " +
+                "WHERE g.owner_id IN (?, ?)", user.getId(), friend.getId())).isZero();
+        assertThatThrownBy(() -> visibleIds(friend, user)).isInstanceOf(ForbiddenException.class);
+    }
+
+    @Test
+    void newRequestAfterRemovalStartsFromPendingWithoutOldShares() {
+        User user = createUser();
+        User friend = createUser();
+        becomeFriends(user, friend);
+        Long userSchedule = insertPrivateSchedule(user);
+        shareWith(userSchedule, user, friend);
+
+        userService.removeFriend(friend.getEmail(), user.getEmail());
+
+        // 같은 두 사용자 사이에 다시 요청 가능하고, 수락 전(PENDING)에는 어느 쪽도 일정을 볼 수 없음
+        userService.sendFriendRequest(user.getEmail(), friend.getEmail());
+        assertThat(friendshipRepository.findByUserAndFriend(user, friend).orElseThrow().getStatus())
+                .isEqualTo(FriendshipStatus.PENDING);
+        assertThatThrownBy(() -> visibleIds(user, friend)).isInstanceOf(ForbiddenException.class);
+        assertThatThrownBy(() -> visibleIds(friend, user)).isInstanceOf(ForbiddenException.class);
+
+        // 다시 친구가 되어도 삭제 전 공유는 되살아나지 않음
+        userService.acceptFriendRequest(friendshipRepository.findByUserAndFriend(user, friend).orElseThrow().getId());
+        assertThat(visibleIds(friend, user)).isEmpty();
+        assertThat(visibleIds(user, friend)).isEmpty();
+    }
+
+    private List<Long> visibleIds(User viewer, User owner) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(viewer.getEmail(), null, List.of()));
+        try {
+            return scheduleService.getFriendSchedules(owner.getEmail()).stream().map(ScheduleDTO::getId).toList();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private void becomeFriends(User user, User friend) {
+        userService.sendFriendRequest(user.getEmail(), friend.getEmail());
+        userService.acceptFriendRequest(friendshipRepository.findByUserAndFriend(user, friend).orElseThrow().getId());
+    }
+
+    private Long insertPrivateSchedule(User owner) {
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withNano(0);
+        jdbcTemplate.update("INSERT INTO schedule (user_id, title, start_time, end_time, is_public, version) VALUES (?, ?, ?, ?, FALSE, 0)",
+                owner.getId(), "비공개 일정", Timestamp.valueOf(start), Timestamp.valueOf(start.plusHours(1)));
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM schedule WHERE user_id = ?", Long.class, owner.getId());
+    }
+
+    private void shareWith(Long scheduleId, User owner, User target) {
+        jdbcTemplate.update("INSERT INTO schedule_share (schedule_id, owner_id, target_user_id) VALUES (?, ?, ?)",
+                scheduleId, owner.getId(), target.getId());
+    }
+
+    private void addToNewGroup(User owner, User member) {
+        jdbcTemplate.update("INSERT INTO friend_group (owner_id, name) VALUES (?, ?)", owner.getId(), "group " + UUID.randomUUID());
+        Long groupId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM friend_group WHERE owner_id = ?", Long.class, owner.getId());
+        jdbcTemplate.update("INSERT INTO friend_group_member (group_id, member_id) VALUES (?, ?)", groupId, member.getId());
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+
+    private User createUser() {
+        String email = UUID.randomUUID() + "@test.com";
+        return userRepository.save(User.builder().email(email).password("{noop}password").nickname("tester").build());
+    }
+}
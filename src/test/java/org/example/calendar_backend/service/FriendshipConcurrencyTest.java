@@ -0,0 +1,206 @@
+package org.example.calendar_backend.service;
+
+import org.example.calendar_backend.entity.Friendship;
+import org.example.calendar_backend.entity.FriendshipStatus;
+import org.example.calendar_backend.entity.User;
+import org.example.calendar_backend.exception.InvalidOperationException;
+import org.example.calendar_backend.exception.ResourceNotFoundException;
+import org.example.calendar_backend.repository.FriendshipRepository;
+import org.example.calendar_backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 친구 요청/수락/거절/삭제를 동시에 여러 번 실행해도 중복 행이나 한쪽 방향만 남은 관계가 생기지 않는지 확인 (로컬 H2 프로파일)
+ */
+@SpringBootTest
+@ActiveProfiles("local")
+class FriendshipConcurrencyTest {
+
+    private static final int THREADS = 32;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FriendshipRepository friendshipRepository;
+
+    @Test
+    void concurrentFriendRequestsCreateSingleRow() throws Exception {
+        User user = createUser();
+        User friend = createUser();
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        runConcurrently(() -> {
+            try {
+                userService.sendFriendRequest(user.getEmail(), friend.getEmail());
+                succeeded.incrementAndGet();
+            } catch (InvalidOperationException ex) {
+                rejected.incrementAndGet();
+            }
+            return null;
+        });
+
+        assertThat(succeeded.get()).isEqualTo(1);
+        assertThat(rejected.get()).isEqualTo(THREADS - 1);
+        assertThat(rowsBetween(user, friend)).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentRemoveDeletesBothDirections() throws Exception {
+        User user = createUser();
+        User friend = createUser();
+        userService.sendFriendRequest(user.getEmail(), friend.getEmail());
+        userService.sendFriendRequest(friend.getEmail(), user.getEmail());
+
+        runConcurrently(() -> {
+            userService.removeFriend(user.getEmail(), friend.getEmail());
+            return null;
+        });
+
+        assertThat(rowsBetween(user, friend)).isZero();
+        assertThat(rowsBetween(friend, user)).isZero();
+    }
+
+    @Test
+    void concurrentAcceptsAcceptOnce() throws Exception {
+        User user = createUser();
+        User friend = createUser();
+        Long friendshipId = sendRequest(user, friend);
+
+        AtomicInteger succeeded = new AtomicInteger();
+        runConcurrently(() -> {
+            try {
+                userService.acceptFriendRequest(friendshipId);
+                succeeded.incrementAndGet();
+            } catch (InvalidOperationException ex) {
+                // 이미 다른 스레드가 수락함
+            }
+            return null;
+        });
+
+        assertThat(succeeded.get()).isEqualTo(1);
+        assertAcceptedBothWays(user, friend);
+    }
+
+    @Test
+    void concurrentAcceptAndRejectApplyOnlyOne() throws Exception {
+        User user = createUser();
+        User friend = createUser();
+        Long friendshipId = sendRequest(user, friend);
+
+        AtomicInteger turn = new AtomicInteger();
+        AtomicInteger succeeded = new AtomicInteger();
+        runConcurrently(() -> {
+            try {
+                if (turn.getAndIncrement() % 2 == 0) {
+                    userService.acceptFriendRequest(friendshipId);
+                } else {
+                    userService.rejectFriendRequest(friendshipId);
+                }
+                succeeded.incrementAndGet();
+            } catch (InvalidOperationException ex) {
+                // 먼저 처리된 쪽만 반영됨
+            }
+            return null;
+        });
+
+        assertThat(succeeded.get()).isEqualTo(1);
+        if (statusOf(user, friend) == FriendshipStatus.ACCEPTED) {
+            assertAcceptedBothWays(user, friend);
+        } else {
+            // 거절된 경우 반대 방향 관계는 생기지 않음
+            assertThat(statusOf(user, friend)).isEqualTo(FriendshipStatus.REJECTED);
+            assertThat(rowsBetween(user, friend)).isEqualTo(1);
+            assertThat(rowsBetween(friend, user)).isZero();
+        }
+    }
+
+    @Test
+    void concurrentAcceptAndRemoveLeaveNoHalfFriendship() throws Exception {
+        User user = createUser();
+        User friend = createUser();
+        Long friendshipId = sendRequest(user, friend);
+
+        AtomicInteger turn = new AtomicInteger();
+        runConcurrently(() -> {
+            try {
+                if (turn.getAndIncrement() % 2 == 0) {
+                    userService.acceptFriendRequest(friendshipId);
+                } else {
+                    userService.removeFriend(friend.getEmail(), user.getEmail());
+                }
+            } catch (InvalidOperationException | ResourceNotFoundException ex) {
+                // 이미 수락되었거나 삭제된 요청
+            }
+            return null;
+        });
+
+        // 수락이 먼저 커밋되면 뒤이은 삭제가 양방향을 지우고, 삭제가 먼저면 수락이 실패하므로 어느 방향의 관계도 남지 않음
+        assertThat(rowsBetween(user, friend)).isZero();
+        assertThat(rowsBetween(friend, user)).isZero();
+    }
+
+    private Long sendRequest(User user, User friend) {
+        userService.sendFriendRequest(user.getEmail(), friend.getEmail());
+        return friendshipRepository.findByUserAndFriend(user, friend).orElseThrow().getId();
+    }
+
+    private void assertAcceptedBothWays(User user, User friend) {
+        assertThat(rowsBetween(user, friend)).isEqualTo(1);
+        assertThat(rowsBetween(friend, user)).isEqualTo(1);
+        assertThat(statusOf(user, friend)).isEqualTo(FriendshipStatus.ACCEPTED);
+        assertThat(statusOf(friend, user)).isEqualTo(FriendshipStatus.ACCEPTED);
+    }
+
+    private FriendshipStatus statusOf(User user, User friend) {
+        return friendshipRepository.findByUserAndFriend(user, friend).map(Friendship::getStatus).orElse(null);
+    }
+
+    private void runConcurrently(Callable<Void> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        start.countDown();
+        for (Future<Void> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+    }
+
+    private long rowsBetween(User user, User friend) {
+        List<Friendship> friendships = friendshipRepository.findAll();
+        return friendships.stream()
+                .filter(f -> f.getUser().getId().equals(user.getId()) && f.getFriend().getId().equals(friend.getId()))
+                .count();
+    }
+
+    private User createUser() {
+        String email = UUID.randomUUID() + "@test.com";
+        return userRepository.save(User.builder().email(email).password("{noop}password").nickname("tester").build());
+    }
+}
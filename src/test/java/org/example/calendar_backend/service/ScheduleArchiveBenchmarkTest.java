@@ -0,0 +1,115 @@
+package org.example.calendar_backend.service;
+
+import org.example.calendar_backend.archive.ScheduleArchiver;
+import org.example.calendar_backend.entity.User;
+import org.example.calendar_backend.repository.ScheduleRepository;
+import org.example.calendar_backend.repository.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 오래된 일정 보관 전/후의 일정 조회 지연 비교 (로컬 H2 프로파일, 대량 합성 데이터)
+ * 사용자마다 수 년치 과거 일정과 최근 일정을 넣고, 보관 작업 실행 전후로 findByUser / findByUserAndIsPublic 을 측정한다.
+ * 실행: ./gradlew benchmark --tests '*ScheduleArchiveBenchmarkTest'
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "app.schedule-archive.initial-delay=PT24H",
+        "app.schedule-archive.batch-size=5000",
+        "app.schedule-archive.max-batches-per-run=100000",
+        "app.schedule-archive.batch-pause=0ms"
+})
+@ActiveProfiles("local")
+class ScheduleArchiveBenchmarkTest {
+
+    private static final int USERS = 50;
+    private static final int PAST_DAYS = 5 * 365;      // 사용자당 과거 일정 (하루 1개, 5년치)
+    private static final int RECENT_DAYS = 120;        // 사용자당 최근 일정
+    private static final int ROUNDS = 200;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private ScheduleArchiver scheduleArchiver;
+
+    @Test
+    void compareQueryLatencyBeforeAndAfterArchiving() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(createUserWithSchedules());
+        }
+        System.out.printf("dataset: users=%d schedules=%d%n", USERS,
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM schedule", Long.class));
+
+        User target = users.get(USERS / 2);
+        measure("before", target);
+
+        long started = System.nanoTime();
+        scheduleArchiver.archiveExpired();
+        System.out.printf("archived: %d schedules in %dms (hot=%d)%n",
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM schedule_archive", Long.class),
+                (System.nanoTime() - started) / 1_000_000,
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM schedule", Long.class));
+
+        measure("after", target);
+    }
+
+    private void measure(String label, User user) {
+        long[] all = time(() -> scheduleRepository.findByUser(user).size());
+        long[] publicOnly = time(() -> scheduleRepository.findByUserAndIsPublic(user, true).size());
+        System.out.printf("[%s] findByUser p50=%dus p99=%dus | findByUserAndIsPublic p50=%dus p99=%dus%n",
+                label, all[0], all[1], publicOnly[0], publicOnly[1]);
+    }
+
+    /**
+     * 반복 측정 후 [p50, p99] (마이크로초) 반환
+     */
+    private long[] time(Supplier<Integer> query) {
+        for (int i = 0; i < ROUNDS / 10; i++) {
+            query.get();
+        }
+        long[] samples = new long[ROUNDS];
+        for (int i = 0; i < ROUNDS; i++) {
+            long started = System.nanoTime();
+            query.get();
+            samples[i] = (System.nanoTime() - started) / 1_000;
+        }
+        Arrays.sort(samples);
+        return new long[]{samples[ROUNDS / 2], samples[ROUNDS * 99 / 100]};
+    }
+
+    private User createUserWithSchedules() {
+        String email = UUID.randomUUID() + "@test.com";
+        User user = userRepository.save(User.builder().email(email).password("{noop}password").nickname("tester").build());
+
+        LocalDateTime today = LocalDateTime.now().withHour(9).withMinute(0).withSecond(0).withNano(0);
+        List<Object[]> rows = new ArrayList<>();
+        for (int day = -PAST_DAYS; day < RECENT_DAYS; day++) {
+            LocalDateTime start = today.plusDays(day);
+            rows.add(new Object[]{user.getId(), "일정 " + day, "설명", Timestamp.valueOf(start),
+                    Timestamp.valueOf(start.plusHours(1)), day % 3 == 0});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO schedule (user_id, title, description, start_time, end_time, is_public, version) " +
+                "VALUES (?, ?, ?, ?, ?, ?, 0)", rows);
+        return user;
+    }
+}
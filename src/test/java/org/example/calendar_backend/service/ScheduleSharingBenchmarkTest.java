@@ -0,0 +1,130 @@
+package org.example.calendar_backend.service;
+
+import org.example.calendar_backend.entity.User;
+import org.example.calendar_backend.repository.ScheduleRepository;
+import org.example.calendar_backend.repository.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 공유 일정 조회 지연 측정 (로컬 H2 프로파일)
+ * 일정 수천 개와 친구 수백 명을 가진 소유자에 대해, 특정 조회자가 볼 수 있는 일정(공개 + 개인/그룹 공유)을 조회한다.
+ * 실행: ./gradlew benchmark --tests '*ScheduleSharingBenchmarkTest'
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("local")
+class ScheduleSharingBenchmarkTest {
+
+    private static final int SCHEDULES = 5_000;
+    private static final int FRIENDS = 300;
+    private static final int GROUPS = 20;
+    private static final int GROUP_SIZE = 40;
+    private static final int ROUNDS = 300;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Test
+    void visibleSchedulesForViewer() {
+        Random random = new Random(7);
+        User owner = createUser();
+        List<User> friends = new ArrayList<>();
+        for (int i = 0; i < FRIENDS; i++) {
+            friends.add(createUser());
+        }
+
+        List<Long> groupIds = new ArrayList<>();
+        for (int g = 0; g < GROUPS; g++) {
+            jdbcTemplate.update("INSERT INTO friend_group (owner_id, name) VALUES (?, ?)", owner.getId(), "group " + g);
+            Long groupId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM friend_group", Long.class);
+            groupIds.add(groupId);
+            List<Object[]> members = new ArrayList<>();
+            random.ints(0, FRIENDS).distinct().limit(GROUP_SIZE)
+                    .forEach(i -> members.add(new Object[]{groupId, friends.get(i).getId()}));
+            jdbcTemplate.batchUpdate("INSERT INTO friend_group_member (group_id, member_id) VALUES (?, ?)", members);
+        }
+
+        // 일정: 20% 공개, 나머지 중 절반은 친구 1~3명 또는 그룹 하나에 공유
+        LocalDateTime base = LocalDateTime.now().withHour(9).withMinute(0).withSecond(0).withNano(0).minusDays(SCHEDULES / 8);
+        List<Object[]> schedules = new ArrayList<>();
+        for (int i = 0; i < SCHEDULES; i++) {
+            LocalDateTime start = base.plusHours(i * 3L);
+            schedules.add(new Object[]{owner.getId(), "일정 " + i, Timestamp.valueOf(start),
+                    Timestamp.valueOf(start.plusHours(1)), random.nextInt(5) == 0});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO schedule (user_id, title, start_time, end_time, is_public, version) " +
+                "VALUES (?, ?, ?, ?, ?, 0)", schedules);
+        List<Long> privateIds = jdbcTemplate.queryForList(
+                "SELECT id FROM schedule WHERE user_id = ? AND is_public = FALSE", Long.class, owner.getId());
+
+        List<Object[]> userShares = new ArrayList<>();
+        List<Object[]> groupShares = new ArrayList<>();
+        for (Long scheduleId : privateIds) {
+            if (random.nextBoolean()) {
+                continue;
+            }
+            if (random.nextBoolean()) {
+                random.ints(0, FRIENDS).distinct().limit(1 + random.nextInt(3))
+                        .forEach(i -> userShares.add(new Object[]{scheduleId, owner.getId(), friends.get(i).getId()}));
+            } else {
+                groupShares.add(new Object[]{scheduleId, owner.getId(), groupIds.get(random.nextInt(GROUPS))});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO schedule_share (schedule_id, owner_id, target_user_id) VALUES (?, ?, ?)", userShares);
+        jdbcTemplate.batchUpdate("INSERT INTO schedule_share (schedule_id, owner_id, target_group_id) VALUES (?, ?, ?)", groupShares);
+        System.out.printf("dataset: schedules=%d friends=%d groups=%d userShares=%d groupShares=%d%n",
+                SCHEDULES, FRIENDS, GROUPS, userShares.size(), groupShares.size());
+
+        Long viewerId = friends.get(FRIENDS / 2).getId();
+        List<Long> ownerIds = List.of(owner.getId());
+        LocalDateTime weekFrom = LocalDateTime.now();
+        LocalDateTime weekTo = weekFrom.plusDays(7);
+
+        measure("public (findByUserAndIsPublic)", () -> scheduleRepository.findByUserAndIsPublic(owner, true).size());
+        measure("shared with viewer (findSharedWith)", () -> scheduleRepository.findSharedWith(ownerIds, viewerId).size());
+        measure("visible in 7-day window (findVisibleInRange)",
+                () -> scheduleRepository.findVisibleInRange(ownerIds, viewerId, weekFrom, weekTo).size());
+        measure("heatmap intervals, 31 days (findBusyIntervals)",
+                () -> scheduleRepository.findBusyIntervals(ownerIds, viewerId, weekFrom, weekFrom.plusDays(31)).size());
+    }
+
+    private void measure(String label, Supplier<Integer> query) {
+        int rows = 0;
+        for (int i = 0; i < ROUNDS / 10; i++) {
+            rows = query.get();
+        }
+        long[] samples = new long[ROUNDS];
+        for (int i = 0; i < ROUNDS; i++) {
+            long started = System.nanoTime();
+            query.get();
+            samples[i] = (System.nanoTime() - started) / 1_000;
+        }
+        Arrays.sort(samples);
+        System.out.printf("%-48s rows=%-5d p50=%dus p99=%dus%n", label, rows, samples[ROUNDS / 2], samples[ROUNDS * 99 / 100]);
+    }
+
+    private User createUser() {
+        String email = UUID.randomUUID() + "@test.com";
+        return userRepository.save(User.builder().email(email).password("{noop}password").nickname("tester").build());
+    }
+}
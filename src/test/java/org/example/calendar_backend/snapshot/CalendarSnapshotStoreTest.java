@@ -0,0 +1,125 @@
+package org.example.calendar_backend.snapshot;
+
+import org.example.calendar_backend.snapshot.CalendarSnapshotStore.SnapshotKey;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CalendarSnapshotStoreTest {
+
+    private static final SnapshotKey JAN = new SnapshotKey(1L, YearMonth.of(2024, 1));
+    private static final SnapshotKey FEB = new SnapshotKey(1L, YearMonth.of(2024, 2));
+    private static final SnapshotKey MAR = new SnapshotKey(1L, YearMonth.of(2024, 3));
+    private static final SnapshotKey OTHER_USER = new SnapshotKey(2L, YearMonth.of(2024, 1));
+
+    @Test
+    void storesCompletedBuild() {
+        CalendarSnapshotStore store = new CalendarSnapshotStore(100);
+        long token = store.beginBuild(JAN);
+
+        assertThat(store.completeBuild(JAN, token, bytes(10))).isTrue();
+        assertThat(store.get(JAN)).hasSize(10);
+        assertThat(store.totalBytes()).isEqualTo(10);
+    }
+
+    @Test
+    void invalidateDuringBuildDiscardsResult() {
+        CalendarSnapshotStore store = new CalendarSnapshotStore(100);
+        long token = store.beginBuild(JAN);
+
+        assertThat(store.invalidate(JAN)).isFalse();   // 아직 저장된 스냅샷은 없음
+        assertThat(store.completeBuild(JAN, token, bytes(10))).isFalse();
+        assertThat(store.get(JAN)).isNull();
+        assertThat(store.totalBytes()).isZero();
+    }
+
+    @Test
+    void clearCancelsAllBuilds() {
+        CalendarSnapshotStore store = new CalendarSnapshotStore(100);
+        long jan = store.beginBuild(JAN);
+        long feb = store.beginBuild(FEB);
+
+        store.clear();
+
+        assertThat(store.completeBuild(JAN, jan, bytes(10))).isFalse();
+        assertThat(store.completeBuild(FEB, feb, bytes(10))).isFalse();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void newerBuildSupersedesOlderToken() {
+        CalendarSnapshotStore store = new CalendarSnapshotStore(100);
+        long older = store.beginBuild(JAN);
+        long newer = store.beginBuild(JAN);
+
+        assertThat(store.completeBuild(JAN, older, bytes(5))).isFalse();
+        assertThat(store.completeBuild(JAN, newer, bytes(7))).isTrue();
+        assertThat(store.get(JAN)).hasSize(7);
+        // 토큰은 한 번만 사용 가능
+        assertThat(store.completeBuild(JAN, newer, bytes(9))).isFalse();
+        assertThat(store.get(JAN)).hasSize(7);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedUntilWithinByteLimit() {
+        CalendarSnapshotStore store = new CalendarSnapshotStore(100);
+        put(store, JAN, 40);
+        put(store, FEB, 40);
+        store.get(JAN);                 // JAN 을 최근 사용으로
+
+        put(store, MAR, 30);            // 110 > 100 → 가장 오래 안 쓴 FEB 제거
+
+        assertThat(store.get(FEB)).isNull();
+        assertThat(store.get(JAN)).isNotNull();
+        assertThat(store.get(MAR)).isNotNull();
+        assertThat(store.totalBytes()).isEqualTo(70);
+
+        put(store, OTHER_USER, 100);    // 한도와 같은 크기는 나머지를 모두 밀어냄
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.totalBytes()).isEqualTo(100);
+    }
+
+    @Test
+    void rejectsSnapshotLargerThanLimit() {
+        CalendarSnapshotStore store = new CalendarSnapshotStore(100);
+        put(store, JAN, 40);
+
+        long token = store.beginBuild(FEB);
+        assertThat(store.completeBuild(FEB, token, bytes(101))).isFalse();
+        assertThat(store.get(JAN)).isNotNull();
+        assertThat(store.totalBytes()).isEqualTo(40);
+    }
+
+    @Test
+    void replacingSnapshotAdjustsTotalBytes() {
+        CalendarSnapshotStore store = new CalendarSnapshotStore(100);
+        put(store, JAN, 40);
+        put(store, JAN, 25);
+
+        assertThat(store.totalBytes()).isEqualTo(25);
+        assertThat(store.invalidate(JAN)).isTrue();
+        assertThat(store.totalBytes()).isZero();
+    }
+
+    @Test
+    void monthsIncludeStoredAndBuildingSnapshots() {
+        CalendarSnapshotStore store = new CalendarSnapshotStore(100);
+        put(store, JAN, 10);
+        store.beginBuild(FEB);
+        store.beginBuild(JAN);
+        put(store, OTHER_USER, 10);
+
+        assertThat(store.months(1L)).containsExactlyInAnyOrder(YearMonth.of(2024, 1), YearMonth.of(2024, 2));
+        assertThat(store.months(2L)).containsExactly(YearMonth.of(2024, 1));
+    }
+
+    private static void put(CalendarSnapshotStore store, SnapshotKey key, int size) {
+        assertThat(store.completeBuild(key, store.beginBuild(key), bytes(size))).isTrue();
+    }
+
+    private static byte[] bytes(int size) {
+        return new byte[size];
+    }
+}
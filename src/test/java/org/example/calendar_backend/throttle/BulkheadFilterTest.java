@@ -0,0 +1,75 @@
+package org.example.calendar_backend.throttle;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkheadFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void classifiesEndpointGroups() {
+        assertThat(BulkheadFilter.classify(request("POST", "/api/users/login"))).isEqualTo(BulkheadFilter.Group.AUTH);
+        assertThat(BulkheadFilter.classify(request("POST", "/api/users/signup"))).isEqualTo(BulkheadFilter.Group.AUTH);
+        assertThat(BulkheadFilter.classify(request("POST", "/api/users/refresh"))).isEqualTo(BulkheadFilter.Group.AUTH);
+        assertThat(BulkheadFilter.classify(request("POST", "/api/users/friends/request"))).isEqualTo(BulkheadFilter.Group.FRIEND);
+        assertThat(BulkheadFilter.classify(request("GET", "/api/users/friends"))).isEqualTo(BulkheadFilter.Group.FRIEND);
+        assertThat(BulkheadFilter.classify(request("GET", "/api/schedules/user"))).isEqualTo(BulkheadFilter.Group.SCHEDULE_READ);
+        assertThat(BulkheadFilter.classify(request("POST", "/api/schedules"))).isEqualTo(BulkheadFilter.Group.SCHEDULE_WRITE);
+        assertThat(BulkheadFilter.classify(request("PUT", "/api/schedules/1"))).isEqualTo(BulkheadFilter.Group.SCHEDULE_WRITE);
+        assertThat(BulkheadFilter.classify(request("DELETE", "/api/schedules/1"))).isEqualTo(BulkheadFilter.Group.SCHEDULE_WRITE);
+    }
+
+    @Test
+    void leavesPreflightAndOtherPathsUnlimited() {
+        assertThat(BulkheadFilter.classify(request("OPTIONS", "/api/schedules/user"))).isNull();
+        assertThat(BulkheadFilter.classify(request("GET", "/api/friend-groups"))).isNull();
+        assertThat(BulkheadFilter.classify(request("GET", "/actuator/health"))).isNull();
+    }
+
+    @Test
+    void stripsContextPath() {
+        MockHttpServletRequest request = request("POST", "/calendar/api/users/login");
+        request.setContextPath("/calendar");
+
+        assertThat(BulkheadFilter.classify(request)).isEqualTo(BulkheadFilter.Group.AUTH);
+    }
+
+    @Test
+    void shedsExcessRequestsWith503AndRetryAfter() throws Exception {
+        BulkheadProperties properties = new BulkheadProperties();
+        properties.setAuth(new BulkheadProperties.Group(1, 0, Duration.ofMillis(10)));
+        properties.setRetryAfter(Duration.ofSeconds(2));
+        BulkheadFilter filter = new BulkheadFilter(properties, meterRegistry);
+        AtomicInteger handled = new AtomicInteger();
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+
+        // 첫 요청이 처리되는 동안 같은 그룹의 두 번째 요청이 들어옴
+        filter.doFilter(request("POST", "/api/users/login"), new MockHttpServletResponse(), (req, res) -> {
+            handled.incrementAndGet();
+            filter.doFilter(request("POST", "/api/users/login"), rejected, (innerReq, innerRes) -> handled.incrementAndGet());
+        });
+
+        assertThat(handled.get()).isEqualTo(1);
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(meterRegistry.get("bulkhead.rejected").tag("group", "auth").counter().count()).isEqualTo(1.0);
+
+        // 다른 그룹은 영향 없고, 처리가 끝나면 다시 허용
+        filter.doFilter(request("GET", "/api/schedules/user"), new MockHttpServletResponse(), (req, res) -> handled.incrementAndGet());
+        filter.doFilter(request("POST", "/api/users/login"), new MockHttpServletResponse(), (req, res) -> handled.incrementAndGet());
+        assertThat(handled.get()).isEqualTo(3);
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        return new MockHttpServletRequest(method, uri);
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.calendar_backend.throttle;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkheadTest {
+
+    @Test
+    void rejectsImmediatelyWhenNoPermitAndNoQueue() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("test", 2, 0, Duration.ofSeconds(10));
+
+        assertThat(bulkhead.tryAcquire()).isTrue();
+        assertThat(bulkhead.tryAcquire()).isTrue();
+        long started = System.nanoTime();
+        assertThat(bulkhead.tryAcquire()).isFalse();
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(1));
+        assertThat(bulkhead.getActiveCount()).isEqualTo(2);
+
+        bulkhead.release();
+        assertThat(bulkhead.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void queuedRequestRunsWhenPermitReleased() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("test", 1, 1, Duration.ofSeconds(10));
+        assertThat(bulkhead.tryAcquire()).isTrue();
+
+        AtomicBoolean acquired = new AtomicBoolean();
+        Thread waiter = new Thread(() -> acquired.set(acquireQuietly(bulkhead)));
+        waiter.start();
+        awaitWaiting(bulkhead, 1);
+        bulkhead.release();
+        waiter.join();
+
+        assertThat(acquired.get()).isTrue();
+        assertThat(bulkhead.getWaitingCount()).isZero();
+        assertThat(bulkhead.getActiveCount()).isEqualTo(1);
+    }
+
+    @Test
+    void queuedRequestGivesUpAfterMaxWait() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("test", 1, 1, Duration.ofMillis(20));
+        assertThat(bulkhead.tryAcquire()).isTrue();
+
+        assertThat(bulkhead.tryAcquire()).isFalse();
+        assertThat(bulkhead.getWaitingCount()).isZero();
+    }
+
+    @Test
+    void rejectsWithoutWaitingWhenQueueFull() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("test", 1, 1, Duration.ofSeconds(10));
+        assertThat(bulkhead.tryAcquire()).isTrue();
+        Thread waiter = new Thread(() -> acquireQuietly(bulkhead));
+        waiter.start();
+        awaitWaiting(bulkhead, 1);
+
+        long started = System.nanoTime();
+        assertThat(bulkhead.tryAcquire()).isFalse();
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(1));
+        assertThat(bulkhead.getWaitingCount()).isEqualTo(1);
+
+        bulkhead.release();
+        waiter.join();
+    }
+
+    private static boolean acquireQuietly(Bulkhead bulkhead) {
+        try {
+            return bulkhead.tryAcquire();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void awaitWaiting(Bulkhead bulkhead, int count) throws InterruptedException {
+        while (bulkhead.getWaitingCount() < count) {
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.calendar_backend.throttle;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private static final String EMAIL = "victim@test.com";
+
+    private final RateLimitFilter filter = new RateLimitFilter(new RateLimitProperties(), new SimpleMeterRegistry(), new ObjectMapper());
+    private final List<String> forwardedBodies = new ArrayList<>();
+
+    @Test
+    void limitsLoginPerAccountAndKeepsBodyReadable() throws Exception {
+        String body = "{\"email\":\"" + EMAIL + "\",\"password\":\"pw\"}";
+
+        // 기본 계정 제한은 분당 5회 (IP 는 매번 다르게)
+        for (int i = 0; i < 5; i++) {
+            assertThat(login(body, "10.0.0." + i).getStatus()).isEqualTo(HttpStatus.OK.value());
+        }
+        assertThat(login(body, "10.0.1.1").getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+
+        // 컨트롤러는 필터가 읽은 본문을 그대로 다시 읽을 수 있음
+        assertThat(forwardedBodies).hasSize(5).allMatch(body::equals);
+    }
+
+    @Test
+    void skipsAccountLimitWithoutReadingOversizedBody() throws Exception {
+        String body = "{\"email\":\"" + EMAIL + "\",\"padding\":\"" + "x".repeat(9 * 1024) + "\"}";
+
+        // 본문이 크면 이메일을 꺼내지 않으므로 계정 제한이 적용되지 않고 본문도 읽히지 않은 채 전달됨
+        for (int i = 0; i < 6; i++) {
+            assertThat(login(body, "10.0.2." + i).getStatus()).isEqualTo(HttpStatus.OK.value());
+        }
+        assertThat(forwardedBodies).hasSize(6).allMatch(body::equals);
+    }
+
+    @Test
+    void skipsAccountLimitWhenContentLengthIsUnknown() throws Exception {
+        String body = "{\"email\":\"" + EMAIL + "\",\"password\":\"pw\"}";
+
+        for (int i = 0; i < 6; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/users/login") {
+                @Override
+                public long getContentLengthLong() {
+                    return -1;
+                }
+            };
+            request.setContent(body.getBytes(StandardCharsets.UTF_8));
+            request.setRemoteAddr("10.0.3." + i);
+            assertThat(filter(request).getStatus()).isEqualTo(HttpStatus.OK.value());
+        }
+    }
+
+    private MockHttpServletResponse login(String body, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/users/login");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        request.setRemoteAddr(remoteAddr);
+        return filter(request);
+    }
+
+    private MockHttpServletResponse filter(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> forwardedBodies.add(read(req)));
+        return response;
+    }
+
+    private static String read(ServletRequest request) throws Exception {
+        return new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+    }
+}
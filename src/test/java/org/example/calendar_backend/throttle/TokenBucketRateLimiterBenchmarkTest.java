@@ -0,0 +1,82 @@
+package org.example.calendar_backend.throttle;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 요청당 rate limiter 오버헤드 측정 (hot key / 다수 키, 단일/다중 스레드)
+ * 실행: ./gradlew benchmark --tests '*TokenBucketRateLimiterBenchmarkTest'
+ */
+@Tag("benchmark")
+class TokenBucketRateLimiterBenchmarkTest {
+
+    private static final int WARMUP = 2_000_000;
+    private static final int OPERATIONS = 5_000_000;
+
+    @Test
+    void perRequestOverhead() throws Exception {
+        String[] keys = new String[10_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "10.0." + (i / 256) + "." + (i % 256);
+        }
+
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(Integer.MAX_VALUE / 2, Duration.ofSeconds(1), 100_000);
+        run("single thread, hot key", 1, () -> limiter.tryAcquire("10.0.0.1"));
+        run("single thread, 10k keys", 1, new KeyCycler(limiter, keys));
+
+        int threads = Runtime.getRuntime().availableProcessors();
+        run(threads + " threads, hot key", threads, () -> limiter.tryAcquire("10.0.0.1"));
+        run(threads + " threads, 10k keys", threads, new KeyCycler(limiter, keys));
+    }
+
+    private void run(String name, int threads, Runnable operation) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            operation.run();
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        int perThread = OPERATIONS / threads;
+        long started = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    operation.run();
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - started;
+        executor.shutdown();
+
+        System.out.printf("[%s] %.1f ns/op (per thread), %.1f M ops/s total%n",
+                name, (double) elapsed / perThread, perThread * (double) threads / (elapsed / 1e9) / 1e6);
+    }
+
+    private static final class KeyCycler implements Runnable {
+
+        private final TokenBucketRateLimiter limiter;
+        private final String[] keys;
+        private int index;
+
+        private KeyCycler(TokenBucketRateLimiter limiter, String[] keys) {
+            this.limiter = limiter;
+            this.keys = keys;
+        }
+
+        @Override
+        public void run() {
+            // 스레드별 인덱스 충돌은 측정 목적상 무시
+            limiter.tryAcquire(keys[(index++ & Integer.MAX_VALUE) % keys.length]);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.calendar_backend.throttle;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+
+    private static final long INTERVAL = TimeUnit.SECONDS.toNanos(12);   // 분당 5개
+
+    private long now = TimeUnit.HOURS.toNanos(1);
+
+    @Test
+    void allowsBurstUpToCapacity() {
+        TokenBucketRateLimiter limiter = limiter(10);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("a")).isZero();
+        }
+        assertThat(limiter.tryAcquire("a")).isEqualTo(INTERVAL);
+        assertThat(limiter.tryAcquire("b")).isZero();
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        TokenBucketRateLimiter limiter = limiter(10);
+        drain(limiter, "a");
+
+        now += INTERVAL - 1;
+        assertThat(limiter.tryAcquire("a")).isEqualTo(1L);
+        now += 1;
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isEqualTo(INTERVAL);
+
+        // 오래 쉬어도 용량 이상은 쌓이지 않음
+        now += TimeUnit.HOURS.toNanos(1);
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("a")).isZero();
+        }
+        assertThat(limiter.tryAcquire("a")).isPositive();
+    }
+
+    @Test
+    void rejectsNewKeysWhenTrackedKeysAreFull() {
+        TokenBucketRateLimiter limiter = limiter(2);
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("b")).isZero();
+
+        // 사용 중인 버킷만으로 한도가 찼으면 새 키는 통과시키지 않음 (키를 바꿔 가며 우회 불가)
+        assertThat(limiter.tryAcquire("c")).isEqualTo(INTERVAL);
+        assertThat(limiter.size()).isEqualTo(2);
+        drain(limiter, "a");
+        assertThat(limiter.tryAcquire("a")).isPositive();
+
+        // 토큰이 다시 가득 찬 버킷은 정리되어 자리가 생김
+        now += INTERVAL;
+        assertThat(limiter.tryAcquire("c")).isZero();
+        assertThat(limiter.size()).isEqualTo(2);
+    }
+
+    @Test
+    void failOpenAllowsUntrackedKeysWhenFull() {
+        TokenBucketRateLimiter limiter = limiter(2, true);
+        drain(limiter, "a");
+        drain(limiter, "b");
+
+        // 한도가 찼어도 새 키는 추적하지 않고 통과 → 임의의 키로 한도를 채워 다른 키를 막을 수 없음
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire("c")).isZero();
+        }
+        assertThat(limiter.size()).isEqualTo(2);
+        // 이미 추적 중인 키는 계속 제한됨
+        assertThat(limiter.tryAcquire("a")).isPositive();
+
+        // 정리로 자리가 생기면 다시 추적
+        now += TimeUnit.MINUTES.toNanos(1);
+        assertThat(limiter.tryAcquire("c")).isZero();
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    void evictsOnlyFullBuckets() {
+        TokenBucketRateLimiter limiter = limiter(10);
+        limiter.tryAcquire("idle");
+        drain(limiter, "busy");
+
+        now += INTERVAL;
+        limiter.evictIdle();
+
+        assertThat(limiter.size()).isEqualTo(1);
+        assertThat(limiter.tryAcquire("busy")).isZero();
+        assertThat(limiter.tryAcquire("busy")).isPositive();
+    }
+
+    private TokenBucketRateLimiter limiter(int maxEntries) {
+        return limiter(maxEntries, false);
+    }
+
+    private TokenBucketRateLimiter limiter(int maxEntries, boolean failOpen) {
+        return new TokenBucketRateLimiter(5, Duration.ofMinutes(1), maxEntries, failOpen, () -> now);
+    }
+
+    private static void drain(TokenBucketRateLimiter limiter, String key) {
+        while (limiter.tryAcquire(key) == 0) {
+            // 남은 토큰 모두 사용
+        }
+    }
+}